@@ -256,6 +256,18 @@ public class PitestTask extends Task { // NO_UCD (test only)
     this.setOption(ConfigOption.FULL_MUTATION_MATRIX, value);
   }
 
+  public void setMaxMinionBatches(final String value) {
+    this.setOption(ConfigOption.MAX_MINION_BATCHES, value);
+  }
+
+  public void setMutantSchemata(final String value) {
+    this.setOption(ConfigOption.MUTANT_SCHEMATA, value);
+  }
+
+  public void setClassDataSharing(final String value) {
+    this.setOption(ConfigOption.CLASS_DATA_SHARING, value);
+  }
+
   public void setJVM(String value) {
     this.setOption(ConfigOption.JVM_PATH, value);
   }
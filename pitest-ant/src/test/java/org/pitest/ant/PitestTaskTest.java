@@ -488,6 +488,27 @@ public class PitestTaskTest {
     this.pitestTask.execute(this.java);
     verify(this.arg).setValue("--fullMutationMatrix=true");
   }
+
+  @Test
+  public void shouldPassMaxMinionBatchesToJavaTask() {
+    this.pitestTask.setMaxMinionBatches("20");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--maxMinionBatches=20");
+  }
+
+  @Test
+  public void shouldPassMutantSchemataFlagToJavaTask() {
+    this.pitestTask.setMutantSchemata("true");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--mutantSchemata=true");
+  }
+
+  @Test
+  public void shouldPassClassDataSharingFlagToJavaTask() {
+    this.pitestTask.setClassDataSharing("true");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--classDataSharing=true");
+  }
   
   private static class PathMatcher extends ArgumentMatcher<Path> {
 
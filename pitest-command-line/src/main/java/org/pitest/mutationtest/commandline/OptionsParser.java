@@ -45,6 +45,7 @@ import static org.pitest.mutationtest.config.ConfigOption.AVOID_CALLS;
 import static org.pitest.mutationtest.config.ConfigOption.CHILD_JVM;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH_FILE;
+import static org.pitest.mutationtest.config.ConfigOption.CLASS_DATA_SHARING;
 import static org.pitest.mutationtest.config.ConfigOption.CODE_PATHS;
 import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.DEPENDENCY_DISTANCE;
@@ -67,6 +68,8 @@ import static org.pitest.mutationtest.config.ConfigOption.MAX_SURVIVING;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_ENGINE;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_THRESHOLD;
+import static org.pitest.mutationtest.config.ConfigOption.MAX_MINION_BATCHES;
+import static org.pitest.mutationtest.config.ConfigOption.MUTANT_SCHEMATA;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_UNIT_SIZE;
 import static org.pitest.mutationtest.config.ConfigOption.OUTPUT_FORMATS;
 import static org.pitest.mutationtest.config.ConfigOption.PLUGIN_CONFIGURATION;
@@ -121,6 +124,9 @@ public class OptionsParser {
   private final OptionSpec<String>                   includedTestMethodsSpec;
   private final OptionSpec<Boolean>                  fullMutationMatrixSpec;
   private final OptionSpec<Integer>                  mutationUnitSizeSpec;
+  private final OptionSpec<Integer>                  maxMinionBatchesSpec;
+  private final OptionSpec<Boolean>                  mutantSchemataSpec;
+  private final OptionSpec<Boolean>                  classDataSharingSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> timestampedReportsSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> detectInlinedCode;
   private final ArgumentAcceptingOptionSpec<Integer> mutationThreshHoldSpec;
@@ -320,6 +326,27 @@ public class OptionsParser {
             "Maximum number of mutations to include within a single unit of analysis")
             .defaultsTo(MUTATION_UNIT_SIZE.getDefault(Integer.class));
 
+    this.maxMinionBatchesSpec = parserAccepts(MAX_MINION_BATCHES)
+        .withRequiredArg()
+        .ofType(Integer.class)
+        .describedAs(
+            "Maximum number of analysis units a minion will process before it is replaced")
+            .defaultsTo(MAX_MINION_BATCHES.getDefault(Integer.class));
+
+    this.mutantSchemataSpec = parserAccepts(MUTANT_SCHEMATA)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "Whether to switch between mutants of a class without redefining it");
+
+    this.classDataSharingSpec = parserAccepts(CLASS_DATA_SHARING)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "Whether to share an archive of loaded classes between minions");
+
     this.historyInputSpec = parserAccepts(HISTORY_INPUT_LOCATION)
         .withRequiredArg().ofType(File.class)
         .describedAs("File to read history from for incremental analysis");
@@ -427,6 +454,11 @@ public class OptionsParser {
     data.setSkipFailingTests(this.skipFailingTests.value(userArgs));
     data.setCodePaths(this.codePaths.values(userArgs));
     data.setMutationUnitSize(this.mutationUnitSizeSpec.value(userArgs));
+    data.setMaxMinionBatches(this.maxMinionBatchesSpec.value(userArgs));
+    data.setMutantSchemata(userArgs.has(this.mutantSchemataSpec)
+        && userArgs.valueOf(this.mutantSchemataSpec));
+    data.setClassDataSharing(userArgs.has(this.classDataSharingSpec)
+        && userArgs.valueOf(this.classDataSharingSpec));
 
     data.setHistoryInputLocation(this.historyInputSpec.value(userArgs));
     data.setHistoryOutputLocation(this.historyOutputSpec.value(userArgs));
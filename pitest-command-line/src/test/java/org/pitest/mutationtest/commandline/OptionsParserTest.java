@@ -370,6 +370,21 @@ public class OptionsParserTest {
         actual.getMutationUnitSize());
   }
 
+  @Test
+  public void shouldParseMaxMinionBatches() {
+    final ReportOptions actual = parseAddingRequiredArgs("--maxMinionBatches",
+        "20");
+    assertEquals(20, actual.getMaxMinionBatches());
+  }
+
+  @Test
+  public void shouldDefaultMaxMinionBatchesToCorrectValue() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(
+        (int) ConfigOption.MAX_MINION_BATCHES.getDefault(Integer.class),
+        actual.getMaxMinionBatches());
+  }
+
   @Test
   public void shouldDefaultToNoHistory() {
     final ReportOptions actual = parseAddingRequiredArgs("");
@@ -537,6 +552,36 @@ public class OptionsParserTest {
     assertTrue(actual.isFullMutationMatrix());
   }
   
+  @Test
+  public void shouldNotUseMutantSchemataByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.useMutantSchemata());
+  }
+
+  @Test
+  public void shouldParseMutantSchemataFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--mutantSchemata");
+    assertTrue(actual.useMutantSchemata());
+  }
+
+  @Test
+  public void shouldParseMutantSchemataFlagWithValue() {
+    final ReportOptions actual = parseAddingRequiredArgs("--mutantSchemata=false");
+    assertFalse(actual.useMutantSchemata());
+  }
+
+  @Test
+  public void shouldNotShareClassDataByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.useClassDataSharing());
+  }
+
+  @Test
+  public void shouldParseClassDataSharingFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--classDataSharing");
+    assertTrue(actual.useClassDataSharing());
+  }
+
   private String getNonCanonicalGregorEngineClassPath() {
     final String gregorEngineClassPath = GregorMutationEngine.class
         .getProtectionDomain().getCodeSource().getLocation().getFile();
@@ -3,7 +3,9 @@ package org.pitest.bytecode.analysis;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -21,6 +23,7 @@ public class ClassTree {
 
   private final ClassNode rawNode;
   private List<MethodTree> lazyMethods;
+  private Map<String, MethodTree> lazyMethodsBySignature;
 
   public ClassTree(ClassNode rawNode) {
     this.rawNode = rawNode;
@@ -43,7 +46,23 @@ public class ClassTree {
   }
 
   public Optional<MethodTree> method(Location loc) {
-   return methods().stream().filter(MethodMatchers.forLocation(loc)).findFirst();
+    if (!loc.getClassName().asInternalName().equals(this.rawNode.name)) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(methodsBySignature()
+        .get(loc.getMethodName().name() + loc.getMethodDesc()));
+  }
+
+  private Map<String, MethodTree> methodsBySignature() {
+    if (this.lazyMethodsBySignature != null) {
+      return this.lazyMethodsBySignature;
+    }
+    final Map<String, MethodTree> index = new HashMap<>();
+    for (final MethodTree each : methods()) {
+      index.put(each.rawNode().name + each.rawNode().desc, each);
+    }
+    this.lazyMethodsBySignature = index;
+    return this.lazyMethodsBySignature;
   }
 
   public List<AnnotationNode> annotations() {
@@ -19,13 +19,16 @@ import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.testapi.Description;
 import org.pitest.util.Log;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -34,25 +37,32 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Stream;
-
-import static java.util.stream.Collectors.toCollection;
 
 public class CoverageData implements CoverageDatabase {
 
   private static final Logger                                 LOG           = Log
       .getLogger();
 
+  // Each test is stored once and identified by its index in this list. Blocks
+  // record the tests that visited them as a bitset of those indexes, so memory
+  // grows with blocks rather than with instructions multiplied by tests.
+  private final List<TestInfo>                                tests         = new ArrayList<>();
+  private final Map<String, Integer>                          testIds       = new HashMap<>();
+  private final Map<BlockLocation, BitSet>                    blockCoverage = new LinkedHashMap<>();
+  private final Map<Location, List<BlockLocation>>            methodBlocks  = new HashMap<>();
+  private final Map<ClassName, List<BlockLocation>>           classBlocks   = new HashMap<>();
+  // lazily filled, and queried concurrently while mutations are discovered
+  private final Map<ClassName, Set<TestInfo>>                 classTests    = new ConcurrentHashMap<>();
+
   // We calculate block coverage, but everything currently runs on line
   // coverage. Ugly mess of maps below should go when
   // api changed to work via blocks
-  private final Map<InstructionLocation, Set<TestInfo>>       instructionCoverage;
-  private final Map<BlockLocation, Set<Integer>>              blocksToLines = new LinkedHashMap<>();
-  private final Map<ClassName, Map<ClassLine, Set<TestInfo>>> lineCoverage  = new LinkedHashMap<>();
+  private final Map<BlockLocation, Set<Integer>>              blocksToLines = new ConcurrentHashMap<>();
+  private final Map<ClassName, Map<ClassLine, Set<TestInfo>>> lineCoverage  = new ConcurrentHashMap<>();
   private final Map<String, Collection<ClassInfo>>            classesForFile;
 
   private final CodeSource                                    code;
@@ -67,16 +77,33 @@ public class CoverageData implements CoverageDatabase {
 
 
   public CoverageData(final CodeSource code, final LineMap lm, Map<InstructionLocation, Set<TestInfo>> instructionCoverage) {
-    this.instructionCoverage = instructionCoverage;
     this.code = code;
     this.lm = lm;
     this.classesForFile = FCollection.bucket(this.code.getCode(),
         keyFromClassInfo());
+    for (final Entry<InstructionLocation, Set<TestInfo>> each : instructionCoverage.entrySet()) {
+      final BitSet blockTests = testsForBlock(each.getKey().getBlockLocation());
+      for (final TestInfo ti : each.getValue()) {
+        blockTests.set(idFor(ti));
+      }
+    }
   }
 
   @Override
   public Collection<TestInfo> getTestsForInstructionLocation(InstructionLocation location) {
-    return this.instructionCoverage.getOrDefault(location, Collections.emptySet());
+    final List<BlockLocation> blocks = this.methodBlocks.get(location
+        .getBlockLocation().getLocation());
+    if (blocks == null) {
+      return Collections.emptySet();
+    }
+    final BitSet ids = new BitSet();
+    for (final BlockLocation each : blocks) {
+      if (each.getFirstInsnInBlock() <= location.getInstructionIndex()
+          && location.getInstructionIndex() <= each.getLastInsnInBlock()) {
+        ids.or(this.blockCoverage.get(each));
+      }
+    }
+    return toTestInfos(ids);
   }
 
   @Override
@@ -117,10 +144,13 @@ public class CoverageData implements CoverageDatabase {
 
   @Override
   public Collection<TestInfo> getTestsForClass(final ClassName clazz) {
-    return this.instructionCoverage.entrySet().stream()
-            .filter(isFor(clazz))
-            .flatMap(toTests())
-            .collect(toCollection(() -> new TreeSet<>(new TestInfoNameComparator())));
+    return this.classTests.computeIfAbsent(clazz, k -> {
+      final BitSet ids = new BitSet();
+      for (final BlockLocation each : blocksForClass(k)) {
+        ids.or(this.blockCoverage.get(each));
+      }
+      return Collections.unmodifiableSet(toTestInfos(ids));
+    });
   }
 
   public void calculateClassCoverage(final CoverageResult cr) {
@@ -128,21 +158,49 @@ public class CoverageData implements CoverageDatabase {
     checkForFailedTest(cr);
     final TestInfo ti = this.createTestInfo(cr.getTestUnitDescription(),
         cr.getExecutionTime(), cr.getNumberOfCoveredBlocks());
+    final int id = idFor(ti);
     for (final BlockLocation each : cr.getCoverage()) {
-      for (int i = each.getFirstInsnInBlock();
-           i <= each.getLastInsnInBlock(); i++) {
-        addTestsToBlockMap(ti, new InstructionLocation(each, i));
-      }
+      testsForBlock(each).set(id);
+      final ClassName clazz = each.getLocation().getClassName();
+      this.classTests.remove(clazz);
+      this.lineCoverage.remove(clazz);
     }
   }
 
-  private void addTestsToBlockMap(final TestInfo ti, InstructionLocation each) {
-    Set<TestInfo> tests = this.instructionCoverage.get(each);
-    if (tests == null) {
-      tests = new TreeSet<>(new TestInfoNameComparator());
-      this.instructionCoverage.put(each, tests);
+  private int idFor(final TestInfo ti) {
+    final Integer existing = this.testIds.get(ti.getName());
+    if (existing != null) {
+      return existing;
     }
-    tests.add(ti);
+    final int id = this.tests.size();
+    this.tests.add(ti);
+    this.testIds.put(ti.getName(), id);
+    return id;
+  }
+
+  private BitSet testsForBlock(final BlockLocation block) {
+    BitSet ids = this.blockCoverage.get(block);
+    if (ids == null) {
+      ids = new BitSet();
+      this.blockCoverage.put(block, ids);
+      this.methodBlocks.computeIfAbsent(block.getLocation(), k -> new ArrayList<>(1))
+          .add(block);
+      this.classBlocks.computeIfAbsent(block.getLocation().getClassName(),
+          k -> new ArrayList<>()).add(block);
+    }
+    return ids;
+  }
+
+  private List<BlockLocation> blocksForClass(final ClassName clazz) {
+    return this.classBlocks.getOrDefault(clazz, Collections.emptyList());
+  }
+
+  private Set<TestInfo> toTestInfos(final BitSet ids) {
+    final Set<TestInfo> tis = new TreeSet<>(new TestInfoNameComparator());
+    for (int i = ids.nextSetBit(0); i >= 0; i = ids.nextSetBit(i + 1)) {
+      tis.add(this.tests.get(i));
+    }
+    return tis;
   }
 
   @Override
@@ -156,11 +214,11 @@ public class CoverageData implements CoverageDatabase {
   }
 
   public List<BlockCoverage> createCoverage() {
-    return FCollection.map(this.instructionCoverage.entrySet(), toBlockCoverage());
+    return FCollection.map(this.blockCoverage.entrySet(), toBlockCoverage());
   }
 
-  private static Function<Entry<InstructionLocation, Set<TestInfo>>, BlockCoverage> toBlockCoverage() {
-    return a -> new BlockCoverage(a.getKey().getBlockLocation(), FCollection.map(a.getValue(),
+  private Function<Entry<BlockLocation, BitSet>, BlockCoverage> toBlockCoverage() {
+    return a -> new BlockCoverage(a.getKey(), FCollection.map(toTestInfos(a.getValue()),
         TestInfo.toName()));
   }
 
@@ -185,9 +243,21 @@ public class CoverageData implements CoverageDatabase {
     return new CoverageSummary(numberOfLines(), coveredLines());
   }
 
+  /**
+   * Expands the block coverage to one entry per instruction. The map is built
+   * on each call so should not be used on hot paths.
+   */
   @Override
   public Map<InstructionLocation, Set<TestInfo>> getInstructionCoverage() {
-    return Collections.unmodifiableMap(this.instructionCoverage);
+    final Map<InstructionLocation, Set<TestInfo>> instructionCoverage = new LinkedHashMap<>();
+    for (final Entry<BlockLocation, BitSet> each : this.blockCoverage.entrySet()) {
+      final Set<TestInfo> tis = Collections.unmodifiableSet(toTestInfos(each.getValue()));
+      for (int i = each.getKey().getFirstInsnInBlock();
+           i <= each.getKey().getLastInsnInBlock(); i++) {
+        instructionCoverage.put(new InstructionLocation(each.getKey(), i), tis);
+      }
+    }
+    return Collections.unmodifiableMap(instructionCoverage);
   }
 
   private BigInteger generateCoverageNumber(
@@ -267,16 +337,14 @@ public class CoverageData implements CoverageDatabase {
 
   private Map<ClassLine, Set<TestInfo>> convertInstructionCoverageToLineCoverageForClass(
       ClassName clazz) {
-    final List<Entry<InstructionLocation, Set<TestInfo>>> tests = FCollection.filter(
-        this.instructionCoverage.entrySet(), isFor(clazz));
-
     final Map<ClassLine, Set<TestInfo>> linesToTests = new LinkedHashMap<>(
         0);
 
-    for (final Entry<InstructionLocation, Set<TestInfo>> each : tests) {
-      for (final int line : getLinesForBlock(each.getKey().getBlockLocation())) {
-        final Set<TestInfo> tis = getLineTestSet(clazz, linesToTests, each, line);
-        tis.addAll(each.getValue());
+    for (final BlockLocation each : blocksForClass(clazz)) {
+      final Set<TestInfo> blockTests = toTestInfos(this.blockCoverage.get(each));
+      for (final int line : getLinesForBlock(each)) {
+        final Set<TestInfo> tis = getLineTestSet(clazz, linesToTests, line);
+        tis.addAll(blockTests);
       }
     }
 
@@ -285,14 +353,12 @@ public class CoverageData implements CoverageDatabase {
   }
 
   private static Set<TestInfo> getLineTestSet(ClassName clazz,
-      Map<ClassLine, Set<TestInfo>> linesToTests,
-      Entry<InstructionLocation, Set<TestInfo>> each, int line) {
+      Map<ClassLine, Set<TestInfo>> linesToTests, int line) {
     final ClassLine cl = new ClassLine(clazz, line);
     Set<TestInfo> tis = linesToTests.get(cl);
     if (tis == null) {
       tis = new TreeSet<>(new TestInfoNameComparator());
-      tis.addAll(each.getValue());
-      linesToTests.put(new ClassLine(clazz, line), tis);
+      linesToTests.put(cl, tis);
     }
     return tis;
   }
@@ -319,13 +385,4 @@ public class CoverageData implements CoverageDatabase {
     this.failingTestDescriptions.add(testDescription);
   }
 
-  private Function<Entry<InstructionLocation, Set<TestInfo>>, Stream<TestInfo>> toTests() {
-    return a -> a.getValue().stream();
-  }
-
-  private Predicate<Entry<InstructionLocation, Set<TestInfo>>> isFor(
-      final ClassName clazz) {
-    return a -> a.getKey().isFor(clazz);
-  }
-
 }
@@ -0,0 +1,366 @@
+package org.pitest.coverage.execute;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.testapi.Description;
+import org.pitest.util.Log;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+import org.pitest.util.Unchecked;
+
+/**
+ * Remembers the coverage recorded for each test class between runs, so that
+ * test classes whose inputs have not changed need not be run again.
+ *
+ * A test class is reused only when its own deep hash and the deep hash of
+ * every class its tests covered are unchanged, and all its tests were green.
+ * No coverage is reused if the test plugin configuration, the classes
+ * instrumented for coverage, or anything on the classpath that is not
+ * instrumented (e.g. test helpers and dependencies) has changed.
+ */
+public class CoverageCache {
+
+  private static final Logger LOG     = Log.getLogger();
+
+  private static final int    VERSION = 1;
+
+  private final File                    input;
+  private final File                    output;
+  private final String                  configuration;
+
+  private final Map<ClassName, Entry>   previous = new HashMap<>();
+  private final Map<ClassName, Entry>   reused   = new LinkedHashMap<>();
+  private final Map<ClassName, List<CoverageResult>> recorded = new LinkedHashMap<>();
+
+  /**
+   * @param input
+   *          file to read cached coverage from, or null
+   * @param output
+   *          file to write coverage to, or null
+   * @param configuration
+   *          description of any settings that affect which tests run. Cached
+   *          coverage recorded under different settings is ignored.
+   */
+  public CoverageCache(final File input, final File output,
+      final String configuration) {
+    this.input = input;
+    this.output = output;
+    this.configuration = configuration;
+  }
+
+  public static CoverageCache disabled() {
+    return new CoverageCache(null, null, "");
+  }
+
+  /**
+   * Creates a cache stored alongside the history files used for incremental
+   * analysis. Either location may be null.
+   */
+  public static CoverageCache forHistory(final File historyInput,
+      final File historyOutput, final CoverageOptions options,
+      final ClassPath classPath) {
+    if ((historyInput == null) && (historyOutput == null)) {
+      return disabled();
+    }
+    return new CoverageCache(siblingOf(historyInput), siblingOf(historyOutput),
+        configurationFor(options, classPath));
+  }
+
+  /**
+   * Describes the settings and classpath that coverage is recorded under, for
+   * use as a cache configuration.
+   *
+   * Instrumented classes are left out of the classpath fingerprint, as changes
+   * to them are detected through the deep hashes of covered classes. Every
+   * other file is fingerprinted by its size and modification time.
+   */
+  static String configurationFor(final CoverageOptions options,
+      final ClassPath classPath) {
+    final MessageDigest digest = sha1();
+    final Predicate<String> instrumented = options.getFilter();
+    for (final String each : classPath.getLocalClassPath()
+        .split(File.pathSeparator)) {
+      final File element = new File(each);
+      if (element.isDirectory()) {
+        fingerprintDirectory(digest, element, "", instrumented);
+      } else {
+        fingerprint(digest, element.getAbsolutePath(), element);
+      }
+    }
+    return options.getPitConfig() + " include=" + options.getInclude()
+        + " exclude=" + options.getExclude() + " classpath="
+        + new BigInteger(1, digest.digest()).toString(16);
+  }
+
+  private static void fingerprintDirectory(final MessageDigest digest,
+      final File dir, final String prefix, final Predicate<String> instrumented) {
+    final File[] children = dir.listFiles();
+    if (children == null) {
+      return;
+    }
+    // sorted, as the order files are listed in is unspecified
+    Arrays.sort(children);
+    for (final File each : children) {
+      final String name = prefix + each.getName();
+      if (each.isDirectory()) {
+        fingerprintDirectory(digest, each, name + "/", instrumented);
+      } else if (!isInstrumented(name, instrumented)) {
+        fingerprint(digest, name, each);
+      }
+    }
+  }
+
+  private static boolean isInstrumented(final String file,
+      final Predicate<String> instrumented) {
+    // the filter matches dotted names, as in the coverage minion
+    return file.endsWith(".class") && instrumented.test(file
+        .substring(0, file.length() - ".class".length()).replace('/', '.'));
+  }
+
+  private static void fingerprint(final MessageDigest digest,
+      final String name, final File file) {
+    digest.update(name.getBytes(StandardCharsets.UTF_8));
+    digest.update(ByteBuffer.allocate(16).putLong(file.length())
+        .putLong(file.lastModified()).array());
+  }
+
+  private static MessageDigest sha1() {
+    try {
+      return MessageDigest.getInstance("SHA-1");
+    } catch (final NoSuchAlgorithmException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private static File siblingOf(final File historyFile) {
+    if (historyFile == null) {
+      return null;
+    }
+    return new File(historyFile.getPath() + ".coverage");
+  }
+
+  public void load() {
+    if ((this.input == null) || !this.input.exists()
+        || (this.input.length() == 0)) {
+      return;
+    }
+    try (FileInputStream fis = new FileInputStream(this.input)) {
+      read(new SafeDataInputStream(new BufferedInputStream(fis)));
+    } catch (final IOException | RuntimeException e) {
+      LOG.log(Level.WARNING, "Could not read coverage cache " + this.input
+          + ". All tests will be run.", e);
+      this.previous.clear();
+    }
+  }
+
+  /**
+   * Returns the coverage cached for the given test class if it is still
+   * valid.
+   */
+  public synchronized Optional<List<CoverageResult>> reuse(
+      final ClassInfo testClass, final CodeSource code) {
+    final Entry entry = this.previous.get(testClass.getName());
+    if ((entry == null) || !entry.testHash.equals(testClass.getDeepHash())
+        || !entry.dependencies.equals(hashes(entry.dependencies.keySet(), code))) {
+      return Optional.empty();
+    }
+    this.reused.put(testClass.getName(), entry);
+    return Optional.of(entry.results);
+  }
+
+  public synchronized void record(final CoverageResult result) {
+    final String testClass = result.getTestUnitDescription().getFirstTestClass();
+    if ((this.output == null) || (testClass == null)) {
+      return;
+    }
+    this.recorded.computeIfAbsent(ClassName.fromString(testClass),
+        k -> new ArrayList<>()).add(result);
+  }
+
+  public synchronized void store(final CodeSource code) {
+    if (this.output == null) {
+      return;
+    }
+
+    final Map<ClassName, Entry> entries = new LinkedHashMap<>(this.reused);
+    for (final Map.Entry<ClassName, List<CoverageResult>> each : this.recorded
+        .entrySet()) {
+      createEntry(each.getKey(), each.getValue(), code)
+          .ifPresent(e -> entries.put(each.getKey(), e));
+    }
+
+    try (FileOutputStream fos = new FileOutputStream(this.output)) {
+      final SafeDataOutputStream dos = new SafeDataOutputStream(
+          new BufferedOutputStream(fos));
+      write(dos, entries);
+      dos.flush();
+    } catch (final IOException | RuntimeException e) {
+      LOG.log(Level.WARNING, "Could not write coverage cache " + this.output, e);
+    }
+  }
+
+  private static Optional<Entry> createEntry(final ClassName testClass,
+      final List<CoverageResult> results, final CodeSource code) {
+    if (!results.stream().allMatch(CoverageResult::isGreenTest)) {
+      return Optional.empty();
+    }
+    final Map<ClassName, BigInteger> testHash = hashes(
+        Collections.singleton(testClass), code);
+    if (testHash.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final Set<ClassName> covered = new LinkedHashSet<>();
+    for (final CoverageResult each : results) {
+      for (final BlockLocation block : each.getCoverage()) {
+        covered.add(block.getLocation().getClassName());
+      }
+    }
+    final Map<ClassName, BigInteger> dependencies = hashes(covered, code);
+    if (dependencies.size() != covered.size()) {
+      return Optional.empty();
+    }
+    return Optional.of(new Entry(testHash.get(testClass), dependencies,
+        results));
+  }
+
+  private static Map<ClassName, BigInteger> hashes(
+      final Collection<ClassName> classes, final CodeSource code) {
+    final Map<ClassName, BigInteger> hashes = new HashMap<>();
+    for (final ClassInfo each : code.getClassInfo(classes)) {
+      hashes.put(each.getName(), each.getDeepHash());
+    }
+    return hashes;
+  }
+
+  private void read(final SafeDataInputStream dis) {
+    if ((dis.readInt() != VERSION)
+        || !this.configuration.equals(dis.readString())) {
+      return;
+    }
+    final int count = dis.readInt();
+    for (int i = 0; i != count; i++) {
+      final ClassName testClass = readClassName(dis);
+      final BigInteger testHash = new BigInteger(dis.readBytes());
+      final int dependencyCount = dis.readInt();
+      final Map<ClassName, BigInteger> dependencies = new HashMap<>();
+      for (int j = 0; j != dependencyCount; j++) {
+        dependencies.put(readClassName(dis), new BigInteger(dis.readBytes()));
+      }
+      final int resultCount = dis.readInt();
+      final List<CoverageResult> results = new ArrayList<>(resultCount);
+      for (int j = 0; j != resultCount; j++) {
+        results.add(readResult(dis));
+      }
+      this.previous.put(testClass, new Entry(testHash, dependencies, results));
+    }
+  }
+
+  private void write(final SafeDataOutputStream dos,
+      final Map<ClassName, Entry> entries) {
+    dos.writeInt(VERSION);
+    dos.writeString(this.configuration);
+    dos.writeInt(entries.size());
+    for (final Map.Entry<ClassName, Entry> each : entries.entrySet()) {
+      final Entry entry = each.getValue();
+      dos.writeInternedString(each.getKey().asInternalName());
+      dos.writeBytes(entry.testHash.toByteArray());
+      dos.writeInt(entry.dependencies.size());
+      for (final Map.Entry<ClassName, BigInteger> dependency : entry.dependencies
+          .entrySet()) {
+        dos.writeInternedString(dependency.getKey().asInternalName());
+        dos.writeBytes(dependency.getValue().toByteArray());
+      }
+      dos.writeInt(entry.results.size());
+      for (final CoverageResult result : entry.results) {
+        writeResult(dos, result);
+      }
+    }
+  }
+
+  private static CoverageResult readResult(final SafeDataInputStream dis) {
+    final String testClass = dis.readInternedString();
+    final Description description = new Description(dis.readInternedString(),
+        testClass);
+    final int time = dis.readInt();
+    final int blockCount = dis.readInt();
+    final List<BlockLocation> blocks = new ArrayList<>(blockCount);
+    for (int i = 0; i != blockCount; i++) {
+      final Location location = Location.location(readClassName(dis),
+          MethodName.fromString(dis.readInternedString()),
+          dis.readInternedString());
+      blocks.add(new BlockLocation(location, dis.readInt(), dis.readInt(),
+          dis.readInt()));
+    }
+    return new CoverageResult(description, time, true, blocks);
+  }
+
+  private static void writeResult(final SafeDataOutputStream dos,
+      final CoverageResult result) {
+    dos.writeInternedString(result.getTestUnitDescription().getFirstTestClass());
+    dos.writeInternedString(result.getTestUnitDescription().getName());
+    dos.writeInt(result.getExecutionTime());
+    dos.writeInt(result.getCoverage().size());
+    for (final BlockLocation each : result.getCoverage()) {
+      final Location location = each.getLocation();
+      dos.writeInternedString(location.getClassName().asInternalName());
+      dos.writeInternedString(location.getMethodName().name());
+      dos.writeInternedString(location.getMethodDesc());
+      dos.writeInt(each.getBlock());
+      dos.writeInt(each.getFirstInsnInBlock());
+      dos.writeInt(each.getLastInsnInBlock());
+    }
+  }
+
+  private static ClassName readClassName(final SafeDataInputStream dis) {
+    return ClassName.fromString(dis.readInternedString());
+  }
+
+  private static final class Entry {
+    private final BigInteger                 testHash;
+    private final Map<ClassName, BigInteger> dependencies;
+    private final List<CoverageResult>       results;
+
+    Entry(final BigInteger testHash,
+        final Map<ClassName, BigInteger> dependencies,
+        final List<CoverageResult> results) {
+      this.testHash = Objects.requireNonNull(testHash);
+      this.dependencies = dependencies;
+      this.results = results;
+    }
+  }
+
+}
@@ -18,8 +18,10 @@ package org.pitest.coverage.execute;
 import java.io.File;
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -33,7 +35,6 @@ import org.pitest.coverage.CoverageExporter;
 import org.pitest.coverage.CoverageGenerator;
 import org.pitest.coverage.CoverageResult;
 import org.pitest.coverage.analysis.LineMapper;
-import org.pitest.functional.FCollection;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.Help;
 import org.pitest.help.PitHelpError;
@@ -59,11 +60,37 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   private final File             workingDir;
   private final CoverageExporter exporter;
   private final boolean          showProgress;
+  private final int              numberOfMinions;
+  private final CoverageCache    cache;
 
   public DefaultCoverageGenerator(final File workingDir,
       final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
       final CodeSource code, final CoverageExporter exporter,
       final Timings timings, final boolean showProgress) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        showProgress, 1);
+  }
+
+  /**
+   * @param numberOfMinions
+   *          the maximum number of coverage minions to split the test classes
+   *          between. Each minion runs in its own JVM so their probes do not
+   *          interfere.
+   */
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, final boolean showProgress,
+      final int numberOfMinions) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        showProgress, numberOfMinions, CoverageCache.disabled());
+  }
+
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, final boolean showProgress,
+      final int numberOfMinions, final CoverageCache cache) {
     this.coverageOptions = coverageOptions;
     this.code = code;
     this.launchOptions = launchOptions;
@@ -71,6 +98,8 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     this.workingDir = workingDir;
     this.exporter = exporter;
     this.showProgress = showProgress;
+    this.numberOfMinions = Math.max(1, numberOfMinions);
+    this.cache = cache;
   }
 
   @Override
@@ -119,24 +148,69 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
       final CoverageData coverage) throws IOException, InterruptedException,
       ExecutionException {
 
-    final List<String> filteredTests = FCollection
-        .map(tests, classInfoToName());
+    final Consumer<CoverageResult> processor = resultProcessor(coverage);
+
+    this.cache.load();
+    final List<String> filteredTests = new ArrayList<>();
+    int reused = 0;
+    for (final ClassInfo each : tests) {
+      final Optional<List<CoverageResult>> cached = this.cache.reuse(each,
+          this.code);
+      if (cached.isPresent()) {
+        cached.get().forEach(processor);
+        reused++;
+      } else {
+        filteredTests.add(classInfoToName().apply(each));
+      }
+    }
+
+    if (reused != 0) {
+      LOG.info("Reused cached coverage for " + reused + " of " + tests.size()
+          + " test classes");
+      if (filteredTests.isEmpty()) {
+        this.cache.store(this.code);
+        return;
+      }
+    }
+
+    final Consumer<CoverageResult> handler = processor
+        .andThen(this.cache::record);
 
-    final Consumer<CoverageResult> handler = resultProcessor(coverage);
+    final List<List<String>> partitions = partition(filteredTests,
+        this.numberOfMinions);
 
     final SocketFinder sf = new SocketFinder();
-    final ServerSocket socket = sf.getNextAvailableServerSocket();
+    final List<CoverageProcess> processes = new ArrayList<>();
+    for (final List<String> each : partitions) {
+      final ServerSocket socket = sf.getNextAvailableServerSocket();
+      processes.add(new CoverageProcess(ProcessArgs
+          .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
+          .andLaunchOptions(this.launchOptions).andStderr(logInfo())
+          .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
+          socket, each, handler));
+    }
+
+    if (processes.size() > 1) {
+      LOG.info("Splitting coverage between " + processes.size() + " minions");
+    }
+
+    for (final CoverageProcess each : processes) {
+      each.start();
+    }
 
-    final CoverageProcess process = new CoverageProcess(ProcessArgs
-        .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
-        .andLaunchOptions(this.launchOptions).andStderr(logInfo())
-        .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
-        socket, filteredTests, handler);
+    final List<ExitCode> exitCodes = new ArrayList<>();
+    for (final CoverageProcess each : processes) {
+      exitCodes.add(each.waitToDie());
+    }
 
-    process.start();
+    for (final ExitCode each : exitCodes) {
+      checkExitCode(each);
+    }
 
-    final ExitCode exitCode = process.waitToDie();
+    this.cache.store(this.code);
+  }
 
+  private static void checkExitCode(final ExitCode exitCode) {
     if (exitCode == ExitCode.JUNIT_ISSUE) {
       LOG.severe("Error generating coverage. Please check that your classpath contains modern JUnit 4 or PIT test plugin for other test tool "
               + "(JUnit 5, TestNG, ...) is enabled.");
@@ -151,6 +225,24 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     }
   }
 
+  /**
+   * Deals the test classes round robin into at most the requested number of
+   * partitions. There is always at least one partition so that a minion is
+   * launched even when there are no tests.
+   */
+  static List<List<String>> partition(final List<String> tests,
+      final int maxPartitions) {
+    final int size = Math.max(1, Math.min(maxPartitions, tests.size()));
+    final List<List<String>> partitions = new ArrayList<>(size);
+    for (int i = 0; i != size; i++) {
+      partitions.add(new ArrayList<>());
+    }
+    for (int i = 0; i != tests.size(); i++) {
+      partitions.get(i % size).add(tests.get(i));
+    }
+    return partitions;
+  }
+
   private static Function<ClassInfo, String> classInfoToName() {
     return a -> a.getName().asInternalName();
   }
@@ -178,8 +270,9 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
           "\u0008\\", "\u0008|" };
       int i = 0;
 
+      // called from the communication thread of every minion
       @Override
-      public void accept(final CoverageResult cr) {
+      public synchronized void accept(final CoverageResult cr) {
         if (cr.isGreenTest() || !coverageOptions.getPitConfig().skipFailingTests()) {
           coverage.calculateClassCoverage(cr);
         }
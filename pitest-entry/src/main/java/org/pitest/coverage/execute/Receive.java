@@ -5,12 +5,14 @@ import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageResult;
 import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.execute.WireFormat;
 import org.pitest.testapi.Description;
 import org.pitest.util.Id;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
 import sun.pitest.CodeCoverageStore;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
@@ -21,10 +23,14 @@ import java.util.function.Consumer;
 final class Receive implements ReceiveStrategy {
 
   private final Map<Integer, ClassName>     classIdToName = new ConcurrentHashMap<>();
-  private final Map<Long, BlockLocation>    probeToBlock  = new ConcurrentHashMap<>();
+  // blocks for each class indexed by class wide probe id
+  private final Map<Integer, BlockLocation[]> probeToBlock = new ConcurrentHashMap<>();
 
   private final Consumer<CoverageResult> handler;
 
+  // minions that do not announce a format use the original serialized one
+  private WireFormat format = WireFormat.SERIALIZED;
+
   Receive(final Consumer<CoverageResult> handler) {
     this.handler = handler;
   }
@@ -32,6 +38,9 @@ final class Receive implements ReceiveStrategy {
   @Override
   public void apply(final byte control, final SafeDataInputStream is) {
     switch (control) {
+    case Id.FORMAT:
+      this.format = WireFormat.negotiate(is.readInt());
+      break;
     case Id.CLAZZ:
       final int id = is.readInt();
       final String name = is.readString();
@@ -56,36 +65,74 @@ final class Receive implements ReceiveStrategy {
     final int last = is.readInt();
     final Location loc = Location.location(this.classIdToName.get(classId),
         MethodName.fromString(methodName), methodSig);
+    final BlockLocation[] blocks = blocksForClass(classId, last + 1);
     for (int i = first; i != (last + 1); i++) {
       // nb, convert from classwide id to method scoped index within
       // BlockLocation
-      this.probeToBlock.put(CodeCoverageStore.encode(classId, i),
-          new BlockLocation(loc, i - first, is.readInt(), is.readInt()));
+      blocks[i] = new BlockLocation(loc, i - first, is.readInt(), is.readInt());
     }
   }
 
+  private BlockLocation[] blocksForClass(final int classId, final int size) {
+    final BlockLocation[] existing = this.probeToBlock.get(classId);
+    if (existing == null) {
+      final BlockLocation[] blocks = new BlockLocation[size];
+      this.probeToBlock.put(classId, blocks);
+      return blocks;
+    }
+    if (existing.length < size) {
+      final BlockLocation[] blocks = Arrays.copyOf(existing, size);
+      this.probeToBlock.put(classId, blocks);
+      return blocks;
+    }
+    return existing;
+  }
+
   private void handleTestEnd(final SafeDataInputStream is) {
-    final Description d = is.read(Description.class);
-    final int numberOfResults = is.readInt();
+    final Description d = this.format.readDescription(is);
+    final Set<BlockLocation> hits;
+    if (this.format == WireFormat.SERIALIZED) {
+      hits = readEncodedProbeHits(is);
+    } else {
+      hits = readProbeBitsets(is);
+    }
 
-    final Set<BlockLocation> hits = new HashSet<>(numberOfResults);
+    this.handler.accept(createCoverageResult(is, d, hits));
+  }
 
+  private Set<BlockLocation> readEncodedProbeHits(final SafeDataInputStream is) {
+    final int numberOfResults = is.readInt();
+    final Set<BlockLocation> hits = new HashSet<>(numberOfResults);
     for (int i = 0; i != numberOfResults; i++) {
-      readProbeHit(is, hits);
+      final long encoded = is.readLong();
+      addHit(hits, CodeCoverageStore.decodeClassId(encoded),
+          CodeCoverageStore.decodeLineId(encoded));
     }
-
-    this.handler.accept(createCoverageResult(is, d, hits));
+    return hits;
   }
 
-  private void readProbeHit(final SafeDataInputStream is,
-      final Set<BlockLocation> hits) {
-    final long encoded = is.readLong();
-    final BlockLocation location = probeToBlock(encoded);
-    hits.add(location);
+  private Set<BlockLocation> readProbeBitsets(final SafeDataInputStream is) {
+    final Set<BlockLocation> hits = new HashSet<>();
+    int classId = is.readInt();
+    while (classId != CoveragePipe.END_OF_HITS) {
+      final byte[] bits = is.readBytes();
+      // bit 0 flags the class as a whole, rather than a block
+      for (int probe = 1; probe != (bits.length << 3); probe++) {
+        if ((bits[probe >> 3] & (1 << (probe & 7))) != 0) {
+          addHit(hits, classId, probe);
+        }
+      }
+      classId = is.readInt();
+    }
+    return hits;
   }
 
-  private BlockLocation probeToBlock(long encoded) {
-    return this.probeToBlock.get(encoded);
+  private void addHit(final Set<BlockLocation> hits, final int classId,
+      final int probe) {
+    final BlockLocation[] blocks = this.probeToBlock.get(classId);
+    if ((blocks != null) && (probe < blocks.length) && (blocks[probe] != null)) {
+      hits.add(blocks[probe]);
+    }
   }
 
   private CoverageResult createCoverageResult(final SafeDataInputStream is,
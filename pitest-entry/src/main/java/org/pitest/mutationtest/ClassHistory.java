@@ -1,6 +1,8 @@
 package org.pitest.mutationtest;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 
 import org.pitest.classinfo.ClassName;
@@ -12,10 +14,21 @@ public class ClassHistory implements Serializable {
 
   private final HierarchicalClassId id;
   private final String              coverageId;
+  private final Map<String, String> methodHashes;
 
   public ClassHistory(final HierarchicalClassId id, final String coverageId) {
+    this(id, coverageId, Collections.emptyMap());
+  }
+
+  /**
+   * @param methodHashes
+   *          hash of each method, keyed by name and descriptor
+   */
+  public ClassHistory(final HierarchicalClassId id, final String coverageId,
+      final Map<String, String> methodHashes) {
     this.id = id;
     this.coverageId = coverageId;
+    this.methodHashes = methodHashes;
   }
 
   public HierarchicalClassId getId() {
@@ -30,9 +43,17 @@ public class ClassHistory implements Serializable {
     return this.id.getName();
   }
 
+  public Map<String, String> getMethodHashes() {
+    // absent from history written before methods were hashed
+    if (this.methodHashes == null) {
+      return Collections.emptyMap();
+    }
+    return this.methodHashes;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(id, coverageId);
+    return Objects.hash(id, coverageId, getMethodHashes());
   }
 
   @Override
@@ -45,6 +66,7 @@ public class ClassHistory implements Serializable {
     }
     final ClassHistory other = (ClassHistory) obj;
     return Objects.equals(id, other.id)
-            && Objects.equals(coverageId, other.coverageId);
+            && Objects.equals(coverageId, other.coverageId)
+            && Objects.equals(getMethodHashes(), other.getMethodHashes());
   }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package org.pitest.mutationtest;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.pitest.classinfo.ClassName;
@@ -20,4 +22,11 @@ public interface HistoryStore {
 
   Map<ClassName, ClassHistory> getHistoricClassPath();
 
+  /**
+   * Names of the tests that covered each mutant that survived, where known.
+   */
+  default Map<MutationIdentifier, List<String>> getHistoricCoveringTests() {
+    return Collections.emptyMap();
+  }
+
 }
@@ -0,0 +1,136 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Groups mutations into units of roughly equal predicted cost, so that the
+ * final units of an analysis do not leave a single thread running alone.
+ *
+ * The cost of a mutation is predicted from the execution time of the tests
+ * assigned to it, i.e. the time taken if it survives. Classes that would cost
+ * more than a target are split, while cheaper classes are packed together
+ * until the target is reached. Units are returned most expensive first.
+ */
+public class CostBalancingGrouper implements MutationGrouper {
+
+  // aim for several units per thread so the longest-first schedule can balance
+  private static final int UNITS_PER_THREAD = 4;
+
+  private final int numberOfThreads;
+  private final int unitSize;
+
+  public CostBalancingGrouper(final int numberOfThreads, final int unitSize) {
+    this.numberOfThreads = Math.max(1, numberOfThreads);
+    this.unitSize = unitSize;
+  }
+
+  /**
+   * Predicted cost of analysing a mutation in milliseconds. Each mutation
+   * costs at least 1 to account for the overhead of inserting it.
+   */
+  public static long predictCost(final MutationDetails mutation) {
+    long cost = 1;
+    for (final TestInfo each : mutation.getTestsInOrder()) {
+      cost += Math.max(0, each.getTime());
+    }
+    return cost;
+  }
+
+  @Override
+  public List<List<MutationDetails>> groupMutations(
+      final Collection<ClassName> codeClasses,
+      final Collection<MutationDetails> mutations) {
+    long total = 0;
+    for (final MutationDetails each : mutations) {
+      total += predictCost(each);
+    }
+    final long target = Math.max(1,
+        total / (this.numberOfThreads * UNITS_PER_THREAD));
+
+    final Map<ClassName, Collection<MutationDetails>> bucketed = FCollection
+        .bucket(mutations, MutationDetails::getClassName);
+    final List<Unit> pieces = new ArrayList<>();
+    for (final Collection<MutationDetails> each : bucketed.values()) {
+      split(pieces, each, target);
+    }
+
+    pieces.sort(mostExpensiveFirst());
+
+    final List<Unit> units = new ArrayList<>();
+    for (final Unit each : pieces) {
+      final Unit bin = findBin(units, each, target);
+      if (bin != null) {
+        bin.addAll(each);
+      } else {
+        units.add(each);
+      }
+    }
+
+    units.sort(mostExpensiveFirst());
+    return FCollection.map(units, u -> u.mutations);
+  }
+
+  private void split(final List<Unit> pieces,
+      final Collection<MutationDetails> mutations, final long target) {
+    Unit current = new Unit();
+    for (final MutationDetails each : mutations) {
+      current.add(each);
+      if ((current.cost >= target) || isFull(current)) {
+        pieces.add(current);
+        current = new Unit();
+      }
+    }
+    if (!current.mutations.isEmpty()) {
+      pieces.add(current);
+    }
+  }
+
+  private Unit findBin(final List<Unit> units, final Unit piece,
+      final long target) {
+    for (final Unit each : units) {
+      if (((each.cost + piece.cost) <= target) && fits(each, piece)) {
+        return each;
+      }
+    }
+    return null;
+  }
+
+  private boolean isFull(final Unit unit) {
+    return (this.unitSize > 0) && (unit.mutations.size() >= this.unitSize);
+  }
+
+  private boolean fits(final Unit unit, final Unit piece) {
+    return (this.unitSize <= 0)
+        || ((unit.mutations.size() + piece.mutations.size()) <= this.unitSize);
+  }
+
+  private static Comparator<Unit> mostExpensiveFirst() {
+    return Comparator.<Unit> comparingLong(u -> u.cost).reversed()
+        .thenComparing(u -> u.mutations.get(0).getId());
+  }
+
+  private static class Unit {
+    private final List<MutationDetails> mutations = new ArrayList<>();
+    private long                        cost;
+
+    void add(final MutationDetails mutation) {
+      this.mutations.add(mutation);
+      this.cost += predictCost(mutation);
+    }
+
+    void addAll(final Unit other) {
+      this.mutations.addAll(other.mutations);
+      this.cost += other.cost;
+    }
+  }
+
+}
@@ -14,6 +14,9 @@ public class DefaultMutationGrouperFactory implements MutationGrouperFactory {
   @Override
   public MutationGrouper makeFactory(final Properties props,
       final CodeSource codeSource, final int numberOfThreads, final int unitSize) {
+    if (numberOfThreads > 1) {
+      return new CostBalancingGrouper(numberOfThreads, unitSize);
+    }
     return new DefaultGrouper(unitSize);
   }
 
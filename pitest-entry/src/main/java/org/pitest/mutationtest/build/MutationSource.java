@@ -15,11 +15,13 @@
 package org.pitest.mutationtest.build;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import org.pitest.bytecode.analysis.ClassTree;
-import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.TestInfo;
@@ -35,35 +37,60 @@ public class MutationSource {
   private final MutationConfig       mutationConfig;
   private final TestPrioritiser      testPrioritiser;
   private final ClassByteArraySource source;
-  private final MutationInterceptor interceptor;
+  private final ThreadLocal<MutationInterceptor> interceptor;
 
+  /**
+   * Creates a source that shares a single interceptor, so may only be used
+   * from one thread.
+   */
   public MutationSource(final MutationConfig mutationConfig,
       final TestPrioritiser testPrioritiser,
       final ClassByteArraySource source,
       final MutationInterceptor interceptor) {
+    this(mutationConfig, testPrioritiser, source, () -> interceptor);
+  }
+
+  /**
+   * Creates a source that may be used from several threads at once. Each
+   * thread is given its own interceptor from the supplier, as interceptors
+   * hold state about the class being processed.
+   *
+   * Bytes are not cached here, so the source should be a shared cache such as
+   * the one provided by the CodeSource.
+   */
+  public MutationSource(final MutationConfig mutationConfig,
+      final TestPrioritiser testPrioritiser,
+      final ClassByteArraySource source,
+      final Supplier<MutationInterceptor> interceptors) {
     this.mutationConfig = mutationConfig;
     this.testPrioritiser = testPrioritiser;
-    this.source = new CachingByteArraySource(source, 200);
-    this.interceptor = interceptor;
+    this.source = source;
+    this.interceptor = ThreadLocal.withInitial(interceptors);
   }
 
   public Collection<MutationDetails> createMutations(final ClassName clazz) {
 
     final Mutater m = this.mutationConfig.createMutator(this.source);
 
+    final Optional<byte[]> bytes = this.source.getBytes(clazz.asJavaName());
+    if (!bytes.isPresent()) {
+      return Collections.emptyList();
+    }
+
+    // the class is parsed once, and shared by the mutater and interceptors
+    final ClassTree tree = ClassTree.fromBytes(bytes.get());
+
     final Collection<MutationDetails> availableMutations = m
-        .findMutations(clazz);
+        .findMutations(tree.rawNode());
 
     if (availableMutations.isEmpty()) {
       return availableMutations;
     } else {
-      final ClassTree tree = ClassTree
-          .fromBytes(this.source.getBytes(clazz.asJavaName()).get());
-
-      this.interceptor.begin(tree);
-      final Collection<MutationDetails> updatedMutations = this.interceptor
+      final MutationInterceptor interceptor = this.interceptor.get();
+      interceptor.begin(tree);
+      final Collection<MutationDetails> updatedMutations = interceptor
           .intercept(availableMutations, m);
-      this.interceptor.end();
+      interceptor.end();
 
       assignTestsToMutations(updatedMutations);
 
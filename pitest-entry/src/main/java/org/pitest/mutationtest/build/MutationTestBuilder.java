@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -40,24 +41,37 @@ public class MutationTestBuilder {
   private final MutationAnalyser analyser;
   private final WorkerFactory    workerFactory;
   private final MutationGrouper  grouper;
+  private final int              discoveryThreads;
 
   public MutationTestBuilder(final WorkerFactory workerFactory,
       final MutationAnalyser analyser, final MutationSource mutationSource,
       final MutationGrouper grouper) {
+    this(workerFactory, analyser, mutationSource, grouper, 1);
+  }
+
+  /**
+   * @param discoveryThreads
+   *          number of threads used to find the mutations in the code classes.
+   *          The mutation source must be safe to call from that many threads.
+   */
+  public MutationTestBuilder(final WorkerFactory workerFactory,
+      final MutationAnalyser analyser, final MutationSource mutationSource,
+      final MutationGrouper grouper, final int discoveryThreads) {
 
     this.mutationSource = mutationSource;
     this.analyser = analyser;
     this.workerFactory = workerFactory;
     this.grouper = grouper;
+    this.discoveryThreads = discoveryThreads;
   }
 
   public List<MutationAnalysisUnit> createMutationTestUnits(
       final Collection<ClassName> codeClasses) {
     final List<MutationAnalysisUnit> tus = new ArrayList<>();
 
-    final List<MutationDetails> mutations = FCollection.flatMap(codeClasses,
-        classToMutations());
+    final List<MutationDetails> mutations = findMutations(codeClasses);
 
+    // sorting makes the result independent of the order classes were analysed
     mutations.sort(comparing(MutationDetails::getId));
 
     final Collection<MutationResult> analysedMutations = this.analyser
@@ -86,6 +100,23 @@ public class MutationTestBuilder {
     return tus;
   }
 
+  private List<MutationDetails> findMutations(
+      final Collection<ClassName> codeClasses) {
+    if ((this.discoveryThreads <= 1) || (codeClasses.size() <= 1)) {
+      return FCollection.flatMap(codeClasses, classToMutations());
+    }
+
+    final ForkJoinPool pool = new ForkJoinPool(this.discoveryThreads);
+    try {
+      return pool.submit(() -> codeClasses.parallelStream()
+          .flatMap(c -> this.mutationSource.createMutations(c).stream())
+          .collect(Collectors.toCollection(ArrayList::new)))
+          .join();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
   private Function<ClassName, Iterable<MutationDetails>> classToMutations() {
     return a -> MutationTestBuilder.this.mutationSource.createMutations(a);
   }
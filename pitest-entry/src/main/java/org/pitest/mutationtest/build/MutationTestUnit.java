@@ -59,7 +59,12 @@ public class MutationTestUnit implements MutationAnalysisUnit {
 
   @Override
   public int priority() {
-    return this.availableMutations.size();
+    // longest first, but always after units whose results are already known
+    long cost = 0;
+    for (final MutationDetails each : this.availableMutations) {
+      cost += CostBalancingGrouper.predictCost(each);
+    }
+    return (int) Math.min(cost, Integer.MAX_VALUE - 1);
   }
 
   private void runTestsInSeperateProcess(final MutationStatusMap mutations)
@@ -82,14 +87,15 @@ public class MutationTestUnit implements MutationAnalysisUnit {
     setFirstMutationToStatusOfStartedInCaseMinionFailsAtBoot(mutations,
         remainingMutations);
 
-    final ExitCode exitCode = waitForMinionToDie(worker);
+    final ExitCode exitCode = waitForMinionToFinish(worker);
     worker.results(mutations);
+    this.workerFactory.returnWorker(worker, exitCode);
 
     correctResultForProcessExitCode(mutations, exitCode);
   }
 
-  private static ExitCode waitForMinionToDie(final MutationTestProcess worker) {
-    final ExitCode exitCode = worker.waitToDie();
+  private static ExitCode waitForMinionToFinish(final MutationTestProcess worker) {
+    final ExitCode exitCode = worker.waitToFinish();
     LOG.fine("Exit code was - " + exitCode);
     return exitCode;
   }
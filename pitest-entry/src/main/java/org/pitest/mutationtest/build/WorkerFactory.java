@@ -1,5 +1,7 @@
 package org.pitest.mutationtest.build;
 
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassHierarchy;
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.EngineArguments;
@@ -10,11 +12,17 @@ import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.execute.MinionArguments;
 import org.pitest.mutationtest.execute.MutationTestProcess;
 import org.pitest.process.ProcessArgs;
+import org.pitest.util.ExitCode;
 import org.pitest.util.Log;
 import org.pitest.util.SocketFinder;
 
 import java.io.File;
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.function.Consumer;
 
 import static org.pitest.functional.prelude.Prelude.printlnWith;
@@ -29,6 +37,12 @@ public class WorkerFactory {
   private final boolean               fullMutationMatrix;
   private final MutationConfig        config;
   private final EngineArguments       args;
+  private final int                   maxMinionBatches;
+  private final ClassByteArraySource  hierarchySource;
+
+  // minions waiting for their next batch of work. As each analysis thread
+  // holds at most one minion, capacity is tied to the number of threads
+  private final BlockingQueue<MutationTestProcess> idleMinions;
 
   public WorkerFactory(final File baseDir,
       final TestPluginArguments pitConfig,
@@ -38,6 +52,41 @@ public class WorkerFactory {
       final boolean verbose,
       final boolean fullMutationMatrix,
       final String classPath) {
+    this(baseDir, pitConfig, mutationConfig, args, timeoutStrategy, verbose,
+        fullMutationMatrix, classPath, 1, 1);
+  }
+
+  public WorkerFactory(final File baseDir,
+      final TestPluginArguments pitConfig,
+      final MutationConfig mutationConfig,
+      final EngineArguments args,
+      final TimeoutLengthStrategy timeoutStrategy,
+      final boolean verbose,
+      final boolean fullMutationMatrix,
+      final String classPath,
+      final int numberOfThreads,
+      final int maxMinionBatches) {
+    this(baseDir, pitConfig, mutationConfig, args, timeoutStrategy, verbose,
+        fullMutationMatrix, classPath, numberOfThreads, maxMinionBatches,
+        clazz -> Optional.empty());
+  }
+
+  /**
+   * @param hierarchySource
+   *          source of the classes whose hierarchy is described to minions,
+   *          so that they need not read them to compute frames
+   */
+  public WorkerFactory(final File baseDir,
+      final TestPluginArguments pitConfig,
+      final MutationConfig mutationConfig,
+      final EngineArguments args,
+      final TimeoutLengthStrategy timeoutStrategy,
+      final boolean verbose,
+      final boolean fullMutationMatrix,
+      final String classPath,
+      final int numberOfThreads,
+      final int maxMinionBatches,
+      final ClassByteArraySource hierarchySource) {
     this.pitConfig = pitConfig;
     this.timeoutStrategy = timeoutStrategy;
     this.verbose = verbose;
@@ -46,6 +95,9 @@ public class WorkerFactory {
     this.baseDir = baseDir;
     this.config = mutationConfig;
     this.args = args;
+    this.maxMinionBatches = Math.max(1, maxMinionBatches);
+    this.idleMinions = new ArrayBlockingQueue<>(Math.max(1, numberOfThreads));
+    this.hierarchySource = hierarchySource;
   }
 
   public MutationTestProcess createWorker(
@@ -53,7 +105,14 @@ public class WorkerFactory {
       final Collection<ClassName> testClasses) {
     final MinionArguments fileArgs = new MinionArguments(remainingMutations,
         testClasses, this.config.getEngine().getName(), this.args, this.timeoutStrategy,
-        Log.isVerbose(), this.fullMutationMatrix, this.pitConfig);
+        Log.isVerbose(), this.fullMutationMatrix, this.pitConfig,
+        describeHierarchy(remainingMutations));
+
+    final MutationTestProcess idle = nextLiveIdleMinion();
+    if (idle != null) {
+      idle.nextBatch(fileArgs);
+      return idle;
+    }
 
     final ProcessArgs args = ProcessArgs.withClassPath(this.classPath)
         .andLaunchOptions(this.config.getLaunchOptions())
@@ -65,6 +124,49 @@ public class WorkerFactory {
         sf.getNextAvailableServerSocket(), args, fileArgs);
   }
 
+  /**
+   * Returns a worker once its batch is complete. Healthy minions are kept for
+   * reuse until they reach the batch limit, all others are destroyed.
+   */
+  public void returnWorker(final MutationTestProcess worker,
+      final ExitCode exitCode) {
+    if (exitCode.isOk() && (worker.batchesRun() < this.maxMinionBatches)
+        && this.idleMinions.offer(worker)) {
+      return;
+    }
+    worker.destroy();
+  }
+
+  /**
+   * Shuts down any minions still held for reuse
+   */
+  public void close() {
+    MutationTestProcess each = this.idleMinions.poll();
+    while (each != null) {
+      each.destroy();
+      each = this.idleMinions.poll();
+    }
+  }
+
+  private MutationTestProcess nextLiveIdleMinion() {
+    MutationTestProcess each = this.idleMinions.poll();
+    // a minion that died while idle would fail the first mutation it was sent
+    while ((each != null) && !each.isAlive()) {
+      each.destroy();
+      each = this.idleMinions.poll();
+    }
+    return each;
+  }
+
+  private ClassHierarchy describeHierarchy(
+      final Collection<MutationDetails> mutations) {
+    final Set<ClassName> classes = new LinkedHashSet<>();
+    for (final MutationDetails each : mutations) {
+      classes.add(each.getClassName());
+    }
+    return ClassHierarchy.forClasses(this.hierarchySource, classes);
+  }
+
   private Consumer<String> captureStdOutIfVerbose() {
     if (this.verbose) {
       return printlnWith("stdout ");
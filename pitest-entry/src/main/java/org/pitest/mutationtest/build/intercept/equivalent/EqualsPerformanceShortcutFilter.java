@@ -15,7 +15,6 @@ import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.pitest.bytecode.analysis.ClassTree;
 import org.pitest.bytecode.analysis.InstructionMatchers;
-import org.pitest.bytecode.analysis.MethodMatchers;
 import org.pitest.bytecode.analysis.MethodTree;
 import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.build.InterceptorType;
@@ -74,9 +73,7 @@ public class EqualsPerformanceShortcutFilter implements MutationInterceptor {
       List<MutationDetails> inEquals, Mutater m) {
     final Location equalsMethod = inEquals.get(0).getId().getLocation();
 
-    final Optional<MethodTree> maybeEquals = this.currentClass.methods().stream()
-        .filter(MethodMatchers.forLocation(equalsMethod))
-        .findFirst();
+    final Optional<MethodTree> maybeEquals = this.currentClass.method(equalsMethod);
 
     return inEquals.stream()
         .filter(isShortcutEquals(maybeEquals.get(), m).negate())
@@ -93,10 +90,7 @@ public class EqualsPerformanceShortcutFilter implements MutationInterceptor {
     }
 
     final ClassTree mutant = ClassTree.fromBytes(m.getMutation(a.getId()).getBytes());
-    final MethodTree mutantEquals = mutant.methods().stream()
-        .filter(MethodMatchers.forLocation(tree.asLocation()))
-        .findFirst()
-        .get();
+    final MethodTree mutantEquals = mutant.method(tree.asLocation()).get();
 
     return ALWAYS_FALSE.matches(mutantEquals.instructions());
   }
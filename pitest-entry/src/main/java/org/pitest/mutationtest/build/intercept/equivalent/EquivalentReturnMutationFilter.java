@@ -18,7 +18,6 @@ import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.LdcInsnNode;
 import org.objectweb.asm.tree.MethodInsnNode;
 import org.pitest.bytecode.analysis.ClassTree;
-import org.pitest.bytecode.analysis.MethodMatchers;
 import org.pitest.bytecode.analysis.MethodTree;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.prelude.Prelude;
@@ -124,9 +123,8 @@ class HardCodedTrueEquivalentFilter implements MutationInterceptor {
           return false;
         }
         final int instruction = a.getInstructionIndex();
-        final MethodTree method = HardCodedTrueEquivalentFilter.this.currentClass.methods().stream()
-            .filter(MethodMatchers.forLocation(a.getId().getLocation()))
-            .findFirst().get();
+        final MethodTree method = HardCodedTrueEquivalentFilter.this.currentClass
+            .method(a.getId().getLocation()).get();
         return primitiveTrue(instruction, method) || boxedTrue(instruction, method);
       }
 
@@ -186,10 +184,8 @@ class PrimitiveEquivalentFilter implements MutationInterceptor {
       if (!MUTATOR_IDS.contains(a.getMutator())) {
         return false;
       }
-      final MethodTree method = PrimitiveEquivalentFilter.this.currentClass.methods().stream()
-          .filter(MethodMatchers.forLocation(a.getId().getLocation()))
-          .findFirst()
-          .get();
+      final MethodTree method = PrimitiveEquivalentFilter.this.currentClass
+          .method(a.getId().getLocation()).get();
       return ZERO_CONSTANTS.contains(method.realInstructionBefore(a.getInstructionIndex()).getOpcode());
     };
   }
@@ -258,10 +254,8 @@ class EmptyReturnsFilter implements MutationInterceptor {
           return false;
         }
 
-        final MethodTree method = EmptyReturnsFilter.this.currentClass.methods().stream()
-            .filter(MethodMatchers.forLocation(a.getId().getLocation()))
-            .findFirst()
-            .get();
+        final MethodTree method = EmptyReturnsFilter.this.currentClass
+            .method(a.getId().getLocation()).get();
         final int mutatedInstruction = a.getInstructionIndex();
         return returnsZeroValue(method, mutatedInstruction)
             || returnsEmptyString(method, mutatedInstruction)
@@ -342,10 +336,8 @@ class NullReturnsFilter implements MutationInterceptor {
           return false;
         }
 
-        final MethodTree method = NullReturnsFilter.this.currentClass.methods().stream()
-            .filter(MethodMatchers.forLocation(a.getId().getLocation()))
-            .findFirst()
-            .get();
+        final MethodTree method = NullReturnsFilter.this.currentClass
+            .method(a.getId().getLocation()).get();
         final int mutatedInstruction = a.getInstructionIndex();
         return returnsNull(method, mutatedInstruction);
       }
@@ -24,7 +24,6 @@ import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.LabelNode;
 import org.objectweb.asm.tree.MethodInsnNode;
 import org.pitest.bytecode.analysis.ClassTree;
-import org.pitest.bytecode.analysis.MethodMatchers;
 import org.pitest.bytecode.analysis.MethodTree;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.prelude.Prelude;
@@ -152,9 +151,8 @@ public class AvoidForLoopCounterFilter implements MutationInterceptor {
   private Predicate<MutationDetails> mutatesAForLoopCounter() {
     return a -> {
       final int instruction = a.getInstructionIndex();
-      final MethodTree method = AvoidForLoopCounterFilter.this.currentClass.methods().stream()
-          .filter(MethodMatchers.forLocation(a.getId().getLocation()))
-          .findFirst().get();
+      final MethodTree method = AvoidForLoopCounterFilter.this.currentClass
+          .method(a.getId().getLocation()).get();
       final AbstractInsnNode mutatedInstruction = method.instruction(instruction);
 
       final Context<AbstractInsnNode> context = Context.start(method.instructions(), DEBUG);
@@ -1,6 +1,5 @@
 package org.pitest.mutationtest.build.intercept.timeout;
 
-import static org.pitest.bytecode.analysis.MethodMatchers.forLocation;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -10,6 +9,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.pitest.bytecode.analysis.ClassTree;
@@ -18,6 +18,7 @@ import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.build.InterceptorType;
 import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.sequence.SequenceMatcher;
@@ -55,33 +56,35 @@ public abstract class InfiniteLoopFilter implements MutationInterceptor {
   private Collection<MutationDetails> findTimeoutMutants(Location location,
       Collection<MutationDetails> mutations, Mutater m) {
 
-    final MethodTree method = this.currentClass.methods().stream()
-        .filter(forLocation(location))
-        .findFirst()
-        .get();
+    final MethodTree method = this.currentClass.method(location).get();
 
     //  give up if our matcher thinks loop is already infinite
     if (infiniteLoopMatcher().matches(method.instructions())) {
       return Collections.emptyList();
     }
 
+    // avoid cost of static analysis by first checking mutant is on
+    // on instruction that could affect looping
+    final List<MutationDetails> candidates = mutations.stream()
+        .filter(each -> couldCauseInfiniteLoop(method, each))
+        .collect(Collectors.toList());
+    final List<Mutant> mutants = m.getMutations(candidates.stream()
+        .map(MutationDetails::getId)
+        .collect(Collectors.toList()));
+
     final List<MutationDetails> timeouts = new ArrayList<>();
-    for ( final MutationDetails each : mutations ) {
-      // avoid cost of static analysis by first checking mutant is on
-      // on instruction that could affect looping
-      if (couldCauseInfiniteLoop(method, each) && isInfiniteLoop(each,m) ) {
-        timeouts.add(each);
+    for (int i = 0; i != candidates.size(); i++) {
+      if (isInfiniteLoop(candidates.get(i), mutants.get(i))) {
+        timeouts.add(candidates.get(i));
       }
     }
     return timeouts;
 
   }
 
-  private boolean isInfiniteLoop(MutationDetails each, Mutater m) {
-    final ClassTree mutantClass = ClassTree.fromBytes(m.getMutation(each.getId()).getBytes());
-    final Optional<MethodTree> mutantMethod = mutantClass.methods().stream()
-        .filter(forLocation(each.getId().getLocation()))
-        .findFirst();
+  private boolean isInfiniteLoop(MutationDetails each, Mutant mutant) {
+    final ClassTree mutantClass = ClassTree.fromBytes(mutant.getBytes());
+    final Optional<MethodTree> mutantMethod = mutantClass.method(each.getId().getLocation());
     return infiniteLoopMatcher().matches(mutantMethod.get().instructions());
   }
 
@@ -159,6 +159,25 @@ public enum ConfigOption {
    */
   MUTATION_UNIT_SIZE("mutationUnitSize", 0),
 
+  /**
+   * Maximum number of units of analysis a single minion will process before
+   * it is replaced by a fresh JVM.
+   */
+  MAX_MINION_BATCHES("maxMinionBatches", 1),
+
+  /**
+   * Weave the mutants of each class into a single class that is loaded once,
+   * selecting the active mutant with a flag rather than redefining the class.
+   */
+  MUTANT_SCHEMATA("mutantSchemata", false),
+
+  /**
+   * Archive the classes loaded during coverage analysis, and share the
+   * archive between minions so that each starts faster. Ignored by JVMs that
+   * do not support application class data sharing.
+   */
+  CLASS_DATA_SHARING("classDataSharing", false),
+
   /**
    * Do/don't attempt to detect inlined code from finally blocks
    */
@@ -18,10 +18,6 @@ import static org.pitest.functional.prelude.Prelude.not;
 import static org.pitest.functional.prelude.Prelude.or;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -34,23 +30,19 @@ import java.util.function.Predicate;
 
 import org.pitest.classpath.ClassFilter;
 import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.ClassPathIndex;
 import org.pitest.classpath.ClassPathRoot;
 import org.pitest.classpath.PathFilter;
 import org.pitest.classpath.ProjectClassPaths;
 import org.pitest.functional.FCollection;
-import java.util.Optional;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.Help;
 import org.pitest.help.PitHelpError;
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
-import org.pitest.mutationtest.incremental.FileWriterFactory;
-import org.pitest.mutationtest.incremental.NullWriterFactory;
-import org.pitest.mutationtest.incremental.WriterFactory;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.testapi.execute.Pitest;
 import org.pitest.util.Glob;
 import org.pitest.util.ResultOutputStrategy;
-import org.pitest.util.Unchecked;
 
 // FIXME move all logic to SettingsFactory and turn into simple bean
 
@@ -117,6 +109,9 @@ public class ReportOptions {
   private boolean                        fullMutationMatrix            = false;
 
   private int                            mutationUnitSize;
+  private int                            maxMinionBatches               = 1;
+  private boolean                        mutantSchemata                 = false;
+  private boolean                        classDataSharing               = false;
   private boolean                        shouldCreateTimestampedReports = true;
   private boolean                        detectInlinedCode              = false;
   private boolean                        exportLineCoverage             = false;
@@ -243,10 +238,14 @@ public class ReportOptions {
   }
 
   public ClassPath getClassPath() {
+    return getClassPath(ClassPathIndex.disabled());
+  }
+
+  private ClassPath getClassPath(final ClassPathIndex index) {
     if (this.classPathElements != null) {
-      return createClassPathFromElements();
+      return createClassPathFromElements(index);
     } else {
-      return new ClassPath();
+      return new ClassPath(ClassPath.getClassPathElementsAsFiles(), index);
     }
   }
 
@@ -330,9 +329,9 @@ public class ReportOptions {
     this.prArtifactsPath = prArtifactsPath;
   }
 
-  private ClassPath createClassPathFromElements() {
+  private ClassPath createClassPathFromElements(final ClassPathIndex index) {
     return new ClassPath(
-        FCollection.map(this.classPathElements, stringToFile()));
+        FCollection.map(this.classPathElements, stringToFile()), index);
   }
 
   private static Function<String, File> stringToFile() {
@@ -479,8 +478,16 @@ public class ReportOptions {
   }
 
   public ProjectClassPaths getMutationClassPaths() {
+    return getMutationClassPaths(ClassPathIndex.disabled());
+  }
 
-    return new ProjectClassPaths(this.getClassPath(), createClassesFilter(),
+  /**
+   * @param index
+   *          class names recorded by a previous run, reused for classpath
+   *          elements that have not changed
+   */
+  public ProjectClassPaths getMutationClassPaths(final ClassPathIndex index) {
+    return new ProjectClassPaths(this.getClassPath(index), createClassesFilter(),
         createPathFilter());
   }
 
@@ -535,6 +542,30 @@ public class ReportOptions {
     this.mutationUnitSize = size;
   }
 
+  public int getMaxMinionBatches() {
+    return this.maxMinionBatches;
+  }
+
+  public void setMaxMinionBatches(final int batches) {
+    this.maxMinionBatches = batches;
+  }
+
+  public boolean useMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  public void setMutantSchemata(final boolean mutantSchemata) {
+    this.mutantSchemata = mutantSchemata;
+  }
+
+  public boolean useClassDataSharing() {
+    return this.classDataSharing;
+  }
+
+  public void setClassDataSharing(final boolean classDataSharing) {
+    this.classDataSharing = classDataSharing;
+  }
+
   public ResultOutputStrategy getReportDirectoryStrategy() {
     return new DirectoryResultOutputStrategy(getReportDir(),
         pickDirectoryStrategy());
@@ -565,31 +596,6 @@ public class ReportOptions {
     this.detectInlinedCode = b;
   }
 
-  public WriterFactory createHistoryWriter() {
-    if (this.historyOutputLocation == null) {
-      return new NullWriterFactory();
-    }
-
-    return new FileWriterFactory(this.historyOutputLocation);
-  }
-
-  public Optional<Reader> createHistoryReader() {
-    if (this.historyInputLocation == null) {
-      return Optional.empty();
-    }
-
-    try {
-      if (this.historyInputLocation.exists()
-          && (this.historyInputLocation.length() > 0)) {
-        return Optional.<Reader> ofNullable(new InputStreamReader(new FileInputStream(
-            this.historyInputLocation), "UTF-8"));
-      }
-      return Optional.empty();
-    } catch (final IOException ex) {
-      throw Unchecked.translateCheckedException(ex);
-    }
-  }
-
   public void setHistoryInputLocation(final File historyInputLocation) {
     this.historyInputLocation = historyInputLocation;
   }
@@ -737,6 +743,9 @@ public class ReportOptions {
         + ", verbose=" + verbose + ", failWhenNoMutations="
         + failWhenNoMutations + ", outputs=" + outputs + ", groupConfig="
         + groupConfig + ", fullMutationMatrix=" + fullMutationMatrix + ", mutationUnitSize=" + mutationUnitSize
+        + ", maxMinionBatches=" + maxMinionBatches
+        + ", mutantSchemata=" + mutantSchemata
+        + ", classDataSharing=" + classDataSharing
         + ", shouldCreateTimestampedReports=" + shouldCreateTimestampedReports
         + ", detectInlinedCode=" + detectInlinedCode + ", exportLineCoverage="
         + exportLineCoverage + ", mutationThreshold=" + mutationThreshold + ", testStrengthThreshold=" + testStrengthThreshold
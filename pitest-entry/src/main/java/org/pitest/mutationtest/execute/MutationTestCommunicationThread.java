@@ -14,43 +14,43 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
 import java.net.ServerSocket;
+import java.net.Socket;
 import java.util.Map;
-import java.util.function.Consumer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationIdentifier;
-import org.pitest.util.CommunicationThread;
+import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
 import org.pitest.util.Log;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
 import org.pitest.util.SafeDataOutputStream;
+import org.pitest.util.Unchecked;
 
-public class MutationTestCommunicationThread extends CommunicationThread {
+/**
+ * Communicates with a single mutation test minion. The connection is held
+ * open between batches so that one minion can analyse several units of work.
+ */
+public class MutationTestCommunicationThread {
 
   private static final Logger LOG = Log.getLogger();
 
-  private static class SendData implements Consumer<SafeDataOutputStream> {
-    private final MinionArguments arguments;
-
-    SendData(final MinionArguments arguments) {
-      this.arguments = arguments;
-    }
-
-    @Override
-    public void accept(final SafeDataOutputStream dos) {
-      dos.write(this.arguments);
-      dos.flush();
-    }
-  }
-
   private static class Receive implements ReceiveStrategy {
 
     private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
 
+    // minions that do not announce a format use the original serialized one
+    private WireFormat format = WireFormat.SERIALIZED;
+
     Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
       this.idMap = idMap;
     }
@@ -58,6 +58,9 @@ public class MutationTestCommunicationThread extends CommunicationThread {
     @Override
     public void apply(final byte control, final SafeDataInputStream is) {
       switch (control) {
+      case Id.FORMAT:
+        this.format = WireFormat.negotiate(is.readInt());
+        break;
       case Id.DESCRIBE:
         handleDescribe(is);
         break;
@@ -68,32 +71,116 @@ public class MutationTestCommunicationThread extends CommunicationThread {
     }
 
     private void handleReport(final SafeDataInputStream is) {
-      final MutationIdentifier mutation = is.read(MutationIdentifier.class);
-      final MutationStatusTestPair value = is
-          .read(MutationStatusTestPair.class);
+      final MutationIdentifier mutation = this.format.readIdentifier(is);
+      final MutationStatusTestPair value = this.format.readStatus(is);
       this.idMap.put(mutation, value);
       LOG.fine(mutation + " " + value);
     }
 
     private void handleDescribe(final SafeDataInputStream is) {
-      final MutationIdentifier mutation = is.read(MutationIdentifier.class);
+      final MutationIdentifier mutation = this.format.readIdentifier(is);
       this.idMap.put(mutation, MutationStatusTestPair.notAnalysed(1,
           DetectionStatus.STARTED));
     }
 
   }
 
+  private final ServerSocket                                     socket;
   private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+  private final ReceiveStrategy                                  receive;
+
+  private Socket                                                 clientSocket;
+  private SafeDataOutputStream                                   os;
+  private SafeDataInputStream                                    is;
+  private FutureTask<ExitCode>                                   future;
 
   public MutationTestCommunicationThread(final ServerSocket socket,
-      final MinionArguments arguments,
       final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
-    super(socket, new SendData(arguments), new Receive(idMap));
+    this.socket = socket;
     this.idMap = idMap;
+    this.receive = new Receive(idMap);
+  }
+
+  public synchronized void start(final MinionArguments arguments) {
+    this.idMap.clear();
+    this.future = new FutureTask<>(runBatch(arguments));
+    final Thread thread = new Thread(this.future);
+    thread.setDaemon(true);
+    thread.setName("pit communication");
+    thread.start();
+  }
+
+  public ExitCode waitToFinish() {
+    try {
+      return this.future.get();
+    } catch (final ExecutionException e) {
+      LOG.log(Level.WARNING, "Error while watching child process", e);
+      return ExitCode.UNKNOWN_ERROR;
+    } catch (final InterruptedException e) {
+      LOG.log(Level.WARNING, "interrupted while waiting for child process", e);
+      return ExitCode.UNKNOWN_ERROR;
+    }
   }
 
   public MutationStatusTestPair getStatus(final MutationIdentifier id) {
     return this.idMap.get(id);
   }
 
+  /**
+   * Asks a connected minion to exit, then releases the sockets.
+   */
+  public synchronized void close() {
+    try {
+      if (this.os != null) {
+        this.os.writeByte(Id.DONE);
+        this.os.flush();
+      }
+    } catch (final RuntimeException e) {
+      LOG.log(Level.FINE, "Could not signal minion to exit", e);
+    } finally {
+      closeQuietly();
+    }
+  }
+
+  private Callable<ExitCode> runBatch(final MinionArguments arguments) {
+    return () -> {
+      if (this.clientSocket == null) {
+        connect();
+        this.os.write(arguments);
+      } else {
+        this.os.writeByte(Id.BATCH);
+        this.os.write(arguments);
+      }
+      this.os.flush();
+      return receiveResults();
+    };
+  }
+
+  private void connect() throws IOException {
+    this.clientSocket = this.socket.accept();
+    this.is = new SafeDataInputStream(new BufferedInputStream(
+        this.clientSocket.getInputStream()));
+    this.os = new SafeDataOutputStream(this.clientSocket.getOutputStream());
+  }
+
+  private ExitCode receiveResults() {
+    byte control = this.is.readByte();
+    while (control != Id.DONE) {
+      this.receive.apply(control, this.is);
+      control = this.is.readByte();
+    }
+    return ExitCode.fromCode(this.is.readInt());
+  }
+
+  private void closeQuietly() {
+    try {
+      if (this.clientSocket != null) {
+        this.clientSocket.close();
+      }
+      this.socket.close();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
 }
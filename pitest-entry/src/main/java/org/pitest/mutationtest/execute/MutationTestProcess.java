@@ -17,18 +17,33 @@ public class MutationTestProcess {
   private final WrappingProcess                 process;
   private final MutationTestCommunicationThread thread;
 
+  private MinionArguments                       arguments;
+  private boolean                               started;
+  private int                                   batchesRun;
+
   public MutationTestProcess(final ServerSocket socket,
       final ProcessArgs processArgs, final MinionArguments arguments) {
     this.process = new WrappingProcess(socket.getLocalPort(), processArgs,
         MutationTestMinion.class);
-    this.thread = new MutationTestCommunicationThread(socket, arguments,
+    this.thread = new MutationTestCommunicationThread(socket,
         new HashMap<MutationIdentifier, MutationStatusTestPair>());
+    this.arguments = arguments;
+  }
 
+  /**
+   * Supplies the next batch of work for an already running minion
+   */
+  public void nextBatch(final MinionArguments arguments) {
+    this.arguments = arguments;
   }
 
   public void start() throws IOException, InterruptedException {
-    this.thread.start();
-    this.process.start();
+    this.thread.start(this.arguments);
+    if (!this.started) {
+      this.process.start();
+      this.started = true;
+    }
+    this.batchesRun++;
   }
 
   public void results(final MutationStatusMap allmutations) throws IOException {
@@ -42,13 +57,32 @@ public class MutationTestProcess {
 
   }
 
-  public ExitCode waitToDie() {
+  /**
+   * Waits for the current batch to complete, leaving the minion running
+   */
+  public ExitCode waitToFinish() {
+    return this.thread.waitToFinish();
+  }
+
+  public void destroy() {
     try {
-      return this.thread.waitToFinish();
+      this.thread.close();
     } finally {
-      this.process.destroy();
+      if (this.started) {
+        this.process.destroy();
+      }
     }
+  }
+
+  /**
+   * @return true unless the minion has been started and has since exited
+   */
+  public boolean isAlive() {
+    return !this.started || this.process.getProcess().isAlive();
+  }
 
+  public int batchesRun() {
+    return this.batchesRun;
   }
 
 }
@@ -0,0 +1,681 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * Stores history in a compact binary file, indexed by class so that the
+ * history of one class can be read without reading the rest of the file.
+ *
+ * The file holds a record for each class and each mutation result, in the
+ * order they were recorded. Records refer to strings by their position in a
+ * table. The string table, and the position of the records for each class,
+ * are written after the records when the store is closed.
+ *
+ * Previous history is memory mapped, and the records of a class decoded when
+ * it is first looked up. History written by
+ * {@link ObjectOutputStreamHistoryStore} is read in full, so that it is not
+ * lost on upgrade. Files are limited to 2GB, as records are located by int
+ * offsets. Once that is reached recording stops, and no file is written
+ * rather than one whose index is wrong.
+ */
+public class BinaryHistoryStore implements HistoryStore {
+
+  private static final Logger LOG          = Log.getLogger();
+
+  private static final int    MAGIC        = 0x50495448;
+  private static final int    VERSION      = 3;
+  private static final int    HEADER_SIZE  = 8;
+  private static final int    TRAILER_SIZE = 8;
+  private static final long   MAX_SIZE     = Integer.MAX_VALUE;
+
+  private final File                                 input;
+  private final File                                 output;
+  private final ClassByteArraySource                 classes;
+  private final long                                 maxSize;
+
+  private ByteBuffer                                 previous;
+  private String[]                                   previousStrings = new String[0];
+  private final Map<ClassName, IndexEntry>           previousIndex   = new HashMap<>();
+  private final Map<ClassName, ClassHistory>         histories       = new ConcurrentHashMap<>();
+  private final Map<ClassName, Map<MutationIdentifier, MutationStatusTestPair>> results = new ConcurrentHashMap<>();
+  private final Map<ClassName, Map<MutationIdentifier, List<String>>> coveringTests = new ConcurrentHashMap<>();
+
+  private FileOutputStream                           file;
+  private boolean                                    closed;
+  private boolean                                    full;
+  private CountingOutputStream                       written;
+  private DataOutputStream                           out;
+  private final Map<String, Integer>                 stringIds       = new HashMap<>();
+  private final List<String>                         strings         = new ArrayList<>();
+  private final Map<ClassName, IndexEntry>           index           = new LinkedHashMap<>();
+
+  /**
+   * @param input
+   *          file to read history from, or null
+   * @param output
+   *          file to write history to, or null. May be the same as input.
+   */
+  public BinaryHistoryStore(final File input, final File output) {
+    this(input, output, clazz -> Optional.empty());
+  }
+
+  /**
+   * @param classes
+   *          source of the bytes of recorded classes, so that their methods
+   *          can be hashed
+   */
+  public BinaryHistoryStore(final File input, final File output,
+      final ClassByteArraySource classes) {
+    this(input, output, classes, MAX_SIZE);
+  }
+
+  BinaryHistoryStore(final File input, final File output,
+      final ClassByteArraySource classes, final long maxSize) {
+    this.input = input;
+    this.output = output;
+    this.classes = classes;
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public void initialize() {
+    if ((this.input == null) || !this.input.exists()
+        || (this.input.length() == 0)) {
+      return;
+    }
+    try {
+      if (isBinary(this.input)) {
+        this.previous = read(this.input);
+        readIndex(this.previous.duplicate());
+      } else {
+        readLegacy();
+      }
+    } catch (final IOException | RuntimeException e) {
+      LOG.log(Level.WARNING, "Could not read history " + this.input
+          + ". All mutations will be analysed.", e);
+      this.previous = null;
+      this.previousIndex.clear();
+      this.histories.clear();
+      this.results.clear();
+      this.coveringTests.clear();
+    }
+  }
+
+  @Override
+  public synchronized void recordClassPath(
+      final Collection<HierarchicalClassId> ids,
+      final CoverageDatabase coverageInfo) {
+    if ((this.output == null) || this.closed) {
+      return;
+    }
+    final DataOutputStream dos = out();
+    try {
+      for (final HierarchicalClassId each : ids) {
+        if (isFull()) {
+          return;
+        }
+        indexEntry(each.getName()).classRecord = offset();
+        dos.writeLong(each.getId().getHash());
+        writeString(dos, each.getHierarchicalHash());
+        writeString(dos,
+            coverageInfo.getCoverageIdForClass(each.getName()).toString(16));
+        final Map<String, String> methods = this.classes
+            .getBytes(each.getName().asJavaName()).map(MethodHashes::forClass)
+            .orElse(Collections.emptyMap());
+        writeVarInt(dos, methods.size());
+        for (final Map.Entry<String, String> method : methods.entrySet()) {
+          writeString(dos, method.getKey());
+          writeString(dos, method.getValue());
+        }
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  @Override
+  public synchronized void recordResult(final MutationResult result) {
+    // reopening the file once closed would truncate the history just written
+    if ((this.output == null) || this.closed) {
+      return;
+    }
+    final DataOutputStream dos = out();
+    if (isFull()) {
+      return;
+    }
+    final MutationIdentifier id = result.getDetails().getId();
+    final MutationStatusTestPair status = result.getStatusTestPair();
+    try {
+      indexEntry(id.getClassName()).add(offset());
+      writeString(dos, id.getLocation().getMethodName().name());
+      writeString(dos, id.getLocation().getMethodDesc());
+      writeString(dos, id.getMutator());
+      writeVarInt(dos, id.getIndexes().size());
+      for (final int each : id.getIndexes()) {
+        writeVarInt(dos, each);
+      }
+      writeString(dos, status.getStatus().name());
+      writeVarInt(dos, status.getNumberOfTestsRun());
+      writeStrings(dos, status.getKillingTests());
+      writeStrings(dos, status.getSucceedingTests());
+      writeStrings(dos, coveringTests(result));
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  @Override
+  public Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults() {
+    return new LazyMap<MutationIdentifier, MutationStatusTestPair>() {
+      @Override
+      MutationStatusTestPair lookup(final Object key) {
+        if (!(key instanceof MutationIdentifier)) {
+          return null;
+        }
+        return resultsFor(((MutationIdentifier) key).getClassName()).get(key);
+      }
+
+      @Override
+      Map<MutationIdentifier, MutationStatusTestPair> all() {
+        final Map<MutationIdentifier, MutationStatusTestPair> all = new HashMap<>();
+        for (final ClassName each : knownClasses()) {
+          all.putAll(resultsFor(each));
+        }
+        return all;
+      }
+    };
+  }
+
+  @Override
+  public Map<MutationIdentifier, List<String>> getHistoricCoveringTests() {
+    return new LazyMap<MutationIdentifier, List<String>>() {
+      @Override
+      List<String> lookup(final Object key) {
+        if (!(key instanceof MutationIdentifier)) {
+          return null;
+        }
+        return coveringTestsFor(((MutationIdentifier) key).getClassName())
+            .get(key);
+      }
+
+      @Override
+      Map<MutationIdentifier, List<String>> all() {
+        final Map<MutationIdentifier, List<String>> all = new HashMap<>();
+        for (final ClassName each : knownClasses()) {
+          all.putAll(coveringTestsFor(each));
+        }
+        return all;
+      }
+    };
+  }
+
+  @Override
+  public Map<ClassName, ClassHistory> getHistoricClassPath() {
+    return new LazyMap<ClassName, ClassHistory>() {
+      @Override
+      ClassHistory lookup(final Object key) {
+        if (!(key instanceof ClassName)) {
+          return null;
+        }
+        return classFor((ClassName) key);
+      }
+
+      @Override
+      Map<ClassName, ClassHistory> all() {
+        final Map<ClassName, ClassHistory> all = new HashMap<>();
+        for (final ClassName each : knownClasses()) {
+          final ClassHistory history = classFor(each);
+          if (history != null) {
+            all.put(each, history);
+          }
+        }
+        return all;
+      }
+    };
+  }
+
+  /**
+   * Writes the string table and index, and closes the file. The file is only
+   * readable once this is done, so it is synced to disk before closing. Any
+   * results recorded after this are ignored.
+   */
+  public synchronized void close() {
+    this.closed = true;
+    if (this.out == null) {
+      return;
+    }
+    try {
+      final int footer = offset();
+      writeVarInt(this.out, this.strings.size());
+      for (final String each : this.strings) {
+        final byte[] bytes = each.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(this.out, bytes.length);
+        this.out.write(bytes);
+      }
+
+      writeVarInt(this.out, this.index.size());
+      for (final IndexEntry each : this.index.values()) {
+        writeVarInt(this.out, each.name);
+        writeVarInt(this.out, each.classRecord + 1);
+        writeVarInt(this.out, each.count);
+        // records are written in order, so each follows the last
+        int last = 0;
+        for (int i = 0; i != each.count; i++) {
+          writeVarInt(this.out, each.results[i] - last);
+          last = each.results[i];
+        }
+      }
+
+      if ((this.written.count + TRAILER_SIZE) > this.maxSize) {
+        if (!this.full) {
+          LOG.warning("History is larger than 2GB and was not written to "
+              + this.output);
+        }
+        this.out.close();
+        Files.deleteIfExists(this.output.toPath());
+        return;
+      }
+      this.out.writeInt(footer);
+      this.out.writeInt(MAGIC);
+      this.out.flush();
+      this.file.getFD().sync();
+      this.out.close();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    } finally {
+      this.out = null;
+      this.written = null;
+      this.file = null;
+    }
+  }
+
+  /**
+   * Offset at which the next record will start. Only valid while the file is
+   * below its size limit.
+   */
+  private int offset() {
+    return (int) this.written.count;
+  }
+
+  /**
+   * Checks there is room for another record, so that no offset can overflow.
+   */
+  private boolean isFull() {
+    if (!this.full && (this.written.count >= this.maxSize)) {
+      this.full = true;
+      LOG.warning("History file " + this.output
+          + " has reached 2GB. No history will be written.");
+    }
+    return this.full;
+  }
+
+  private Set<ClassName> knownClasses() {
+    final Set<ClassName> known = new HashSet<>(this.previousIndex.keySet());
+    known.addAll(this.histories.keySet());
+    known.addAll(this.results.keySet());
+    return known;
+  }
+
+  private ClassHistory classFor(final ClassName name) {
+    return this.histories.computeIfAbsent(name, this::decodeClass);
+  }
+
+  private Map<MutationIdentifier, MutationStatusTestPair> resultsFor(
+      final ClassName name) {
+    return this.results.computeIfAbsent(name, this::decodeResults);
+  }
+
+  private Map<MutationIdentifier, List<String>> coveringTestsFor(
+      final ClassName name) {
+    // decoded along with the results
+    resultsFor(name);
+    return this.coveringTests.getOrDefault(name, Collections.emptyMap());
+  }
+
+  private static List<String> coveringTests(final MutationResult result) {
+    // only survivors need them, to tell if a new test now covers the mutant
+    if (result.getStatus() != DetectionStatus.SURVIVED) {
+      return Collections.emptyList();
+    }
+    final List<String> tests = new ArrayList<>();
+    for (final TestInfo each : result.getDetails().getTestsInOrder()) {
+      tests.add(each.getName());
+    }
+    return tests;
+  }
+
+  private ClassHistory decodeClass(final ClassName name) {
+    final IndexEntry entry = this.previousIndex.get(name);
+    if ((entry == null) || (entry.classRecord < 0)) {
+      return null;
+    }
+    final ByteBuffer buffer = this.previous.duplicate();
+    buffer.position(entry.classRecord);
+    final long hash = buffer.getLong();
+    final HierarchicalClassId id = new HierarchicalClassId(hash, name,
+        readString(buffer));
+    final String coverageId = readString(buffer);
+    final int methodCount = readVarInt(buffer);
+    final Map<String, String> methods = new HashMap<>();
+    for (int i = 0; i != methodCount; i++) {
+      methods.put(readString(buffer), readString(buffer));
+    }
+    return new ClassHistory(id, coverageId, methods);
+  }
+
+  private Map<MutationIdentifier, MutationStatusTestPair> decodeResults(
+      final ClassName name) {
+    final IndexEntry entry = this.previousIndex.get(name);
+    if (entry == null) {
+      return Collections.emptyMap();
+    }
+    final ByteBuffer buffer = this.previous.duplicate();
+    final Map<MutationIdentifier, MutationStatusTestPair> decoded = new HashMap<>();
+    final Map<MutationIdentifier, List<String>> covering = new HashMap<>();
+    for (int i = 0; i != entry.count; i++) {
+      buffer.position(entry.results[i]);
+      final Location location = Location.location(name,
+          MethodName.fromString(readString(buffer)), readString(buffer));
+      final String mutator = readString(buffer);
+      final List<Integer> indexes = new ArrayList<>();
+      final int indexCount = readVarInt(buffer);
+      for (int j = 0; j != indexCount; j++) {
+        indexes.add(readVarInt(buffer));
+      }
+      final DetectionStatus status = DetectionStatus
+          .valueOf(readString(buffer));
+      final int testsRun = readVarInt(buffer);
+      final MutationIdentifier id = new MutationIdentifier(location, indexes,
+          mutator);
+      decoded.put(id, new MutationStatusTestPair(testsRun, status,
+          readStrings(buffer), readStrings(buffer)));
+      final List<String> tests = readStrings(buffer);
+      if (!tests.isEmpty()) {
+        covering.put(id, tests);
+      }
+    }
+    this.coveringTests.put(name, covering);
+    return decoded;
+  }
+
+  private void readIndex(final ByteBuffer buffer) throws IOException {
+    final int limit = buffer.limit();
+    if ((limit < (HEADER_SIZE + TRAILER_SIZE))
+        || (buffer.getInt(limit - 4) != MAGIC)) {
+      throw new IOException("History file is incomplete");
+    }
+    if (buffer.getInt(4) != VERSION) {
+      throw new IOException("Unsupported history version "
+          + buffer.getInt(4));
+    }
+
+    buffer.position(buffer.getInt(limit - TRAILER_SIZE));
+    this.previousStrings = new String[readVarInt(buffer)];
+    for (int i = 0; i != this.previousStrings.length; i++) {
+      final byte[] bytes = new byte[readVarInt(buffer)];
+      buffer.get(bytes);
+      this.previousStrings[i] = new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    final int classCount = readVarInt(buffer);
+    for (int i = 0; i != classCount; i++) {
+      final IndexEntry entry = new IndexEntry(readVarInt(buffer));
+      entry.classRecord = readVarInt(buffer) - 1;
+      entry.count = readVarInt(buffer);
+      entry.results = new int[entry.count];
+      int last = 0;
+      for (int j = 0; j != entry.count; j++) {
+        last = last + readVarInt(buffer);
+        entry.results[j] = last;
+      }
+      this.previousIndex.put(
+          ClassName.fromString(this.previousStrings[entry.name]), entry);
+    }
+  }
+
+  private void readLegacy() throws IOException {
+    try (Reader reader = new InputStreamReader(new FileInputStream(this.input),
+        StandardCharsets.UTF_8)) {
+      final ObjectOutputStreamHistoryStore legacy = new ObjectOutputStreamHistoryStore(
+          new NullWriterFactory(), Optional.of(reader));
+      legacy.initialize();
+      this.histories.putAll(legacy.getHistoricClassPath());
+      for (final Map.Entry<MutationIdentifier, MutationStatusTestPair> each : legacy
+          .getHistoricResults().entrySet()) {
+        this.results.computeIfAbsent(each.getKey().getClassName(),
+            k -> new HashMap<>()).put(each.getKey(), each.getValue());
+      }
+    }
+  }
+
+  private ByteBuffer read(final File file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(),
+        StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("History file is larger than 2GB");
+      }
+      if (!isSameFile(file, this.output)) {
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      }
+      // the file is about to be overwritten, so must be read in full
+      final ByteBuffer buffer = ByteBuffer.allocate((int) size);
+      while (buffer.hasRemaining() && (channel.read(buffer) >= 0)) {
+        // keep reading
+      }
+      buffer.flip();
+      return buffer;
+    }
+  }
+
+  private static boolean isBinary(final File file) throws IOException {
+    try (DataInputStream dis = new DataInputStream(new FileInputStream(file))) {
+      return (file.length() >= 4) && (dis.readInt() == MAGIC);
+    }
+  }
+
+  private static boolean isSameFile(final File a, final File b)
+      throws IOException {
+    return (b != null) && b.exists() && Files.isSameFile(a.toPath(), b.toPath());
+  }
+
+  private DataOutputStream out() {
+    if (this.out == null) {
+      this.output.getAbsoluteFile().getParentFile().mkdirs();
+      try {
+        this.file = new FileOutputStream(this.output);
+        this.written = new CountingOutputStream(
+            new BufferedOutputStream(this.file));
+        this.out = new DataOutputStream(this.written);
+        this.out.writeInt(MAGIC);
+        this.out.writeInt(VERSION);
+      } catch (final IOException e) {
+        throw Unchecked.translateCheckedException(e);
+      }
+    }
+    return this.out;
+  }
+
+  private IndexEntry indexEntry(final ClassName name) {
+    return this.index.computeIfAbsent(name,
+        k -> new IndexEntry(stringId(k.asJavaName())));
+  }
+
+  private int stringId(final String value) {
+    return this.stringIds.computeIfAbsent(value, k -> {
+      this.strings.add(k);
+      return this.strings.size() - 1;
+    });
+  }
+
+  private void writeString(final DataOutputStream dos, final String value)
+      throws IOException {
+    writeVarInt(dos, stringId(value));
+  }
+
+  private void writeStrings(final DataOutputStream dos,
+      final List<String> values) throws IOException {
+    writeVarInt(dos, values.size());
+    for (final String each : values) {
+      writeString(dos, each);
+    }
+  }
+
+  private String readString(final ByteBuffer buffer) {
+    return this.previousStrings[readVarInt(buffer)];
+  }
+
+  private List<String> readStrings(final ByteBuffer buffer) {
+    final int count = readVarInt(buffer);
+    if (count == 0) {
+      return Collections.emptyList();
+    }
+    final String[] values = new String[count];
+    for (int i = 0; i != count; i++) {
+      values[i] = readString(buffer);
+    }
+    return Arrays.asList(values);
+  }
+
+  private static void writeVarInt(final DataOutputStream dos, final int value)
+      throws IOException {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      dos.writeByte((remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    dos.writeByte(remaining);
+  }
+
+  private static int readVarInt(final ByteBuffer buffer) {
+    int value = 0;
+    int shift = 0;
+    byte b;
+    do {
+      b = buffer.get();
+      value |= (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+
+  /**
+   * Where the records for a class are in the file.
+   */
+  private static final class IndexEntry {
+    private final int name;
+    private int       classRecord = -1;
+    private int[]     results     = new int[4];
+    private int       count;
+
+    IndexEntry(final int name) {
+      this.name = name;
+    }
+
+    void add(final int position) {
+      if (this.count == this.results.length) {
+        this.results = Arrays.copyOf(this.results, this.count * 2);
+      }
+      this.results[this.count++] = position;
+    }
+  }
+
+  /**
+   * Counts bytes written as a long, as DataOutputStream stops counting at
+   * Integer.MAX_VALUE.
+   */
+  private static final class CountingOutputStream extends FilterOutputStream {
+    private long count;
+
+    CountingOutputStream(final OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      this.out.write(b);
+      this.count++;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len)
+        throws IOException {
+      this.out.write(b, off, len);
+      this.count += len;
+    }
+  }
+
+  /**
+   * Answers lookups one class at a time, only reading every record if asked
+   * to iterate.
+   */
+  private abstract static class LazyMap<K, V> extends AbstractMap<K, V> {
+
+    abstract V lookup(Object key);
+
+    abstract Map<K, V> all();
+
+    @Override
+    public V get(final Object key) {
+      return lookup(key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+      return lookup(key) != null;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+      return Collections.unmodifiableMap(all()).entrySet();
+    }
+
+  }
+
+}
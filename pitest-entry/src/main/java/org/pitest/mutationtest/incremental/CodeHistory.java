@@ -1,18 +1,32 @@
 package org.pitest.mutationtest.incremental;
 
 import java.math.BigInteger;
+import java.util.List;
 
 import org.pitest.classinfo.ClassName;
 import java.util.Optional;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public interface CodeHistory {
 
   Optional<MutationStatusTestPair> getPreviousResult(MutationIdentifier id);
 
+  /**
+   * Names of the tests that covered a mutant when it last survived. Empty if
+   * not known.
+   */
+  List<String> getPreviousCoveringTests(MutationIdentifier id);
+
   boolean hasClassChanged(ClassName className);
 
+  /**
+   * True if neither the method, nor anything else in its class that it
+   * depends on, has changed. False if this cannot be determined.
+   */
+  boolean isMethodUnchanged(Location method);
+
   boolean hasCoverageChanged(ClassName className, BigInteger currentCoverage);
 
 }
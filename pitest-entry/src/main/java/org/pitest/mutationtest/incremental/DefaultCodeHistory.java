@@ -1,35 +1,63 @@
 package org.pitest.mutationtest.incremental;
 
 import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassInfoSource;
 import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
 import org.pitest.classpath.CodeSource;
 import java.util.Optional;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public class DefaultCodeHistory implements CodeHistory {
 
   private final ClassInfoSource                                 code;
+  private final ClassByteArraySource                            bytes;
   private final Map<MutationIdentifier, MutationStatusTestPair> previousResults;
+  private final Map<MutationIdentifier, List<String>>           previousCoveringTests;
   private final Map<ClassName, ClassHistory>                    previousClassPath;
+  private final Map<ClassName, Map<String, String>>             currentMethods = new ConcurrentHashMap<>();
 
   public DefaultCodeHistory(final CodeSource code,
       final HistoryStore historyStore) {
-    this(code, historyStore.getHistoricResults(), historyStore
-        .getHistoricClassPath());
+    this(code, code.getByteSource(), historyStore.getHistoricResults(),
+        historyStore.getHistoricCoveringTests(),
+        historyStore.getHistoricClassPath());
   }
 
   public DefaultCodeHistory(final ClassInfoSource code,
       final Map<MutationIdentifier, MutationStatusTestPair> previousResults,
       final Map<ClassName, ClassHistory> previousClassPath) {
+    this(code, clazz -> Optional.empty(), previousResults, previousClassPath);
+  }
+
+  public DefaultCodeHistory(final ClassInfoSource code,
+      final ClassByteArraySource bytes,
+      final Map<MutationIdentifier, MutationStatusTestPair> previousResults,
+      final Map<ClassName, ClassHistory> previousClassPath) {
+    this(code, bytes, previousResults, Collections.emptyMap(),
+        previousClassPath);
+  }
+
+  public DefaultCodeHistory(final ClassInfoSource code,
+      final ClassByteArraySource bytes,
+      final Map<MutationIdentifier, MutationStatusTestPair> previousResults,
+      final Map<MutationIdentifier, List<String>> previousCoveringTests,
+      final Map<ClassName, ClassHistory> previousClassPath) {
     this.code = code;
+    this.bytes = bytes;
     this.previousResults = previousResults;
+    this.previousCoveringTests = previousCoveringTests;
     this.previousClassPath = previousClassPath;
   }
 
@@ -39,6 +67,15 @@ public class DefaultCodeHistory implements CodeHistory {
     return Optional.ofNullable(this.previousResults.get(id));
   }
 
+  @Override
+  public List<String> getPreviousCoveringTests(final MutationIdentifier id) {
+    final List<String> tests = this.previousCoveringTests.get(id);
+    if (tests == null) {
+      return Collections.emptyList();
+    }
+    return tests;
+  }
+
   @Override
   public boolean hasClassChanged(final ClassName className) {
     final ClassHistory historic = this.previousClassPath.get(className);
@@ -51,6 +88,41 @@ public class DefaultCodeHistory implements CodeHistory {
 
   }
 
+  @Override
+  public boolean isMethodUnchanged(final Location method) {
+    final ClassHistory historic = this.previousClassPath
+        .get(method.getClassName());
+    if (historic == null) {
+      return false;
+    }
+    final String previousHash = historic.getMethodHashes()
+        .get(MethodHashes.key(method));
+    return (previousHash != null) && previousHash.equals(
+        currentMethods(method.getClassName(), historic).get(
+            MethodHashes.key(method)));
+  }
+
+  private Map<String, String> currentMethods(final ClassName className,
+      final ClassHistory historic) {
+    return this.currentMethods.computeIfAbsent(className, c -> {
+      final Optional<ClassInfo> current = this.code.fetchClass(c);
+      // a change to a super or outer class may affect any method
+      if (!current.isPresent() || !ancestorHash(
+          current.get().getHierarchicalId()).equals(ancestorHash(historic.getId()))) {
+        return Collections.emptyMap();
+      }
+      return this.bytes.getBytes(c.asJavaName()).map(MethodHashes::forClass)
+          .orElse(Collections.emptyMap());
+    });
+  }
+
+  // the hierarchical hash of a class is the sum of its own hash and those of
+  // its super and outer classes
+  private static BigInteger ancestorHash(final HierarchicalClassId id) {
+    return new BigInteger(id.getHierarchicalHash(), 16)
+        .subtract(BigInteger.valueOf(id.getId().getHash()));
+  }
+
   @Override
   public boolean hasCoverageChanged(final ClassName className,
       final BigInteger currentCoverage) {
@@ -1,13 +1,41 @@
 package org.pitest.mutationtest.incremental;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
 import org.pitest.mutationtest.ClassMutationResults;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.util.Unchecked;
 
+/**
+ * Records results to the history store on a separate thread, so that other
+ * listeners are not held up while history is written to disk.
+ *
+ * Results are queued as they arrive and written in batches. The listener
+ * only waits if the writer falls a long way behind, and at the end of the
+ * run, when the queue is drained before the store is closed. A run that fails
+ * before it ends must be stopped, so that the writer is not still running
+ * when the store is closed.
+ */
 public class HistoryListener implements MutationResultListener {
 
-  private final HistoryStore historyStore;
+  private static final int                  QUEUE_SIZE = 1000;
+
+  private static final ClassMutationResults END        = new ClassMutationResults(
+      Collections.<MutationResult> emptyList());
+
+  private final HistoryStore                         historyStore;
+  private final BlockingQueue<ClassMutationResults>  queue      = new ArrayBlockingQueue<>(
+      QUEUE_SIZE);
+
+  private Thread                                     writer;
+  private volatile Throwable                         failure;
 
   public HistoryListener(final HistoryStore historyStore) {
     this.historyStore = historyStore;
@@ -15,20 +43,104 @@ public class HistoryListener implements MutationResultListener {
 
   @Override
   public void runStart() {
-
+    this.writer = new Thread(this::write, "pit history writer");
+    this.writer.setDaemon(true);
+    this.writer.start();
   }
 
   @Override
   public void handleMutationResult(final ClassMutationResults metaData) {
-    for (final MutationResult each : metaData.getMutations()) {
-      this.historyStore.recordResult(each);
+    // results reported outside a run have no writer to hand them to
+    if (this.writer == null) {
+      record(metaData);
+      return;
+    }
+    try {
+      enqueue(metaData);
+    } catch (final InterruptedException e) {
+      throw Unchecked.translateCheckedException(e);
     }
-
   }
 
   @Override
   public void runEnd() {
+    stop();
+    if (this.failure instanceof Error) {
+      throw (Error) this.failure;
+    }
+    if (this.failure != null) {
+      throw (RuntimeException) this.failure;
+    }
+  }
+
+  /**
+   * Waits for queued results to be written and stops the writer. Does nothing
+   * if the run has already ended.
+   */
+  public void stop() {
+    if (this.writer == null) {
+      return;
+    }
+    try {
+      enqueue(END);
+      this.writer.join();
+    } catch (final InterruptedException e) {
+      throw Unchecked.translateCheckedException(e);
+    } finally {
+      this.writer = null;
+    }
+  }
+
+  private void enqueue(final ClassMutationResults metaData)
+      throws InterruptedException {
+    // once the writer has died nothing will take from the queue, so waiting
+    // for space would never end
+    while (!this.queue.offer(metaData, 100, TimeUnit.MILLISECONDS)) {
+      if (!this.writer.isAlive()) {
+        return;
+      }
+    }
+  }
+
+  private void write() {
+    final List<ClassMutationResults> batch = new ArrayList<>();
+    try {
+      while (true) {
+        batch.add(this.queue.take());
+        this.queue.drainTo(batch);
+        for (final ClassMutationResults each : batch) {
+          if (each == END) {
+            return;
+          }
+          // once writing has failed, results are discarded so that the
+          // queue never fills
+          if (this.failure == null) {
+            recordSafely(each);
+          }
+        }
+        batch.clear();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final Throwable t) {
+      this.failure = t;
+    }
+  }
+
+  private void recordSafely(final ClassMutationResults metaData) {
+    try {
+      record(metaData);
+    } catch (final Throwable t) {
+      // errors too, so that they are reported rather than silently
+      // stopping the writer
+      this.failure = t;
+    }
+  }
 
+  private void record(final ClassMutationResults metaData) {
+    for (final MutationResult each : metaData.getMutations()) {
+      this.historyStore.recordResult(each);
+    }
   }
 
 }
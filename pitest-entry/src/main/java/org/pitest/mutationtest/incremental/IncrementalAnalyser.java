@@ -4,10 +4,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -78,7 +80,9 @@ public class IncrementalAnalyser implements MutationAnalyser {
 
     final ClassName clazz = each.getClassName();
 
-    if (this.history.hasClassChanged(clazz)) {
+    // results for a method survive changes elsewhere in its class
+    if (this.history.hasClassChanged(clazz)
+        && !this.history.isMethodUnchanged(each.getId().getLocation())) {
       return analyseFromScratch(each);
     }
 
@@ -99,14 +103,30 @@ public class IncrementalAnalyser implements MutationAnalyser {
     }
 
     if ((mutationStatusTestPair.getStatus() == DetectionStatus.SURVIVED)
-        && !this.history.hasCoverageChanged(clazz,
-            this.coverage.getCoverageIdForClass(clazz))) {
+        && (coveringTestsUnchanged(each) || !this.history.hasCoverageChanged(
+            clazz, this.coverage.getCoverageIdForClass(clazz)))) {
       return makeResult(each, DetectionStatus.SURVIVED);
     }
 
     return analyseFromScratch(each);
   }
 
+  /**
+   * A survivor still survives if it is covered by no test it was not covered
+   * by before, and none of its tests have changed.
+   */
+  private boolean coveringTestsUnchanged(final MutationDetails each) {
+    final Set<String> previous = new HashSet<>(
+        this.history.getPreviousCoveringTests(each.getId()));
+    final List<TestInfo> current = each.getTestsInOrder();
+    // a mutant no test now covers should be reported as such
+    if (previous.isEmpty() || current.isEmpty()) {
+      return false;
+    }
+    return current.stream().allMatch(t -> previous.contains(t.getName()))
+        && current.stream().allMatch(testClassDidNotChange());
+  }
+
   private List<String> filterUnchangedKillingTests(final MutationDetails each,
                                                    final MutationStatusTestPair mutationStatusTestPair) {
 
@@ -0,0 +1,247 @@
+package org.pitest.mutationtest.incremental;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.FieldNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.util.Unchecked;
+
+/**
+ * Hashes each method of a class, so that results for mutants in a method can
+ * be reused when other parts of the class change.
+ *
+ * Line numbers and variable names are ignored, but the hash does change if
+ * a line number entry, label or frame is added or removed, as mutants are
+ * identified by instruction indexes that count them. The hash of a method
+ * also covers each method of the same class it calls, directly or
+ * indirectly, and everything in the class that is not a method, such as its
+ * fields. Adding a field therefore changes the hash of every method. A method
+ * that reads a field of its class also depends on the constructors, the
+ * static initialiser and any other method that assigns the field.
+ */
+final class MethodHashes {
+
+  private MethodHashes() {
+  }
+
+  /**
+   * @return hash of each method, keyed by name and descriptor. Empty if the
+   *         class cannot be read.
+   */
+  static Map<String, String> forClass(final byte[] bytes) {
+    final ClassNode node = new ClassNode();
+    try {
+      new ClassReader(bytes).accept(node, 0);
+    } catch (final RuntimeException e) {
+      return Collections.emptyMap();
+    }
+
+    final Map<String, Set<String>> writers = writers(node);
+    final Map<String, Long> own = new HashMap<>();
+    final Map<String, Set<String>> callees = new HashMap<>();
+    for (final MethodNode each : node.methods) {
+      final String layout = layout(each);
+      stripDebugInfo(each);
+      own.put(key(each.name, each.desc), hash(concat(methodBytes(each),
+          layout.getBytes(StandardCharsets.UTF_8))));
+      callees.put(key(each.name, each.desc),
+          callees(node.name, each, writers));
+    }
+
+    node.methods.clear();
+    node.sourceFile = null;
+    node.sourceDebug = null;
+    final ClassWriter structure = new ClassWriter(0);
+    node.accept(structure);
+    final long structureHash = hash(structure.toByteArray());
+
+    final Map<String, String> hashes = new HashMap<>();
+    for (final String each : own.keySet()) {
+      final StringBuilder sb = new StringBuilder();
+      sb.append(structureHash);
+      for (final String method : reachable(each, callees)) {
+        sb.append(';').append(method).append('=').append(own.get(method));
+      }
+      hashes.put(each, Long.toHexString(hash(sb.toString().getBytes(
+          StandardCharsets.UTF_8))));
+    }
+    return hashes;
+  }
+
+  static String key(final Location location) {
+    return key(location.getMethodName().name(), location.getMethodDesc());
+  }
+
+  private static boolean isRead(final AbstractInsnNode insn) {
+    return (insn.getOpcode() == Opcodes.GETFIELD)
+        || (insn.getOpcode() == Opcodes.GETSTATIC);
+  }
+
+  private static String key(final FieldInsnNode field) {
+    return key(field.name, field.desc);
+  }
+
+  private static String key(final String name, final String desc) {
+    return name + desc;
+  }
+
+  private static Set<String> reachable(final String method,
+      final Map<String, Set<String>> callees) {
+    // sorted, so that the hash does not depend on the order of calls
+    final Set<String> found = new TreeSet<>();
+    final Deque<String> toVisit = new ArrayDeque<>();
+    toVisit.push(method);
+    while (!toVisit.isEmpty()) {
+      final String each = toVisit.pop();
+      // methods inherited from elsewhere are not in the map
+      if (callees.containsKey(each) && found.add(each)) {
+        toVisit.addAll(callees.get(each));
+      }
+    }
+    return found;
+  }
+
+  /**
+   * @return methods that may set each field of the class, keyed by name and
+   *         descriptor
+   */
+  private static Map<String, Set<String>> writers(final ClassNode node) {
+    final Set<String> initialisers = new LinkedHashSet<>();
+    for (final MethodNode each : node.methods) {
+      if (each.name.equals("<init>") || each.name.equals("<clinit>")) {
+        initialisers.add(key(each.name, each.desc));
+      }
+    }
+
+    final Map<String, Set<String>> writers = new HashMap<>();
+    for (final MethodNode each : node.methods) {
+      for (final AbstractInsnNode insn : each.instructions) {
+        if ((insn instanceof FieldInsnNode)
+            && (insn.getOpcode() == Opcodes.PUTFIELD
+                || insn.getOpcode() == Opcodes.PUTSTATIC)
+            && ((FieldInsnNode) insn).owner.equals(node.name)) {
+          writers.computeIfAbsent(key((FieldInsnNode) insn),
+              k -> new LinkedHashSet<>(initialisers))
+              .add(key(each.name, each.desc));
+        }
+      }
+    }
+    for (final FieldNode each : node.fields) {
+      writers.computeIfAbsent(key(each.name, each.desc),
+          k -> new LinkedHashSet<>(initialisers));
+    }
+    return writers;
+  }
+
+  private static Set<String> callees(final String owner,
+      final MethodNode method, final Map<String, Set<String>> writers) {
+    final Set<String> found = new LinkedHashSet<>();
+    for (final AbstractInsnNode each : method.instructions) {
+      if (isRead(each) && ((FieldInsnNode) each).owner.equals(owner)) {
+        // reads depend on whatever sets the field
+        found.addAll(writers.getOrDefault(key((FieldInsnNode) each),
+            Collections.emptySet()));
+      } else if (each instanceof MethodInsnNode) {
+        final MethodInsnNode call = (MethodInsnNode) each;
+        if (call.owner.equals(owner)) {
+          found.add(key(call.name, call.desc));
+        }
+      } else if (each instanceof InvokeDynamicInsnNode) {
+        // lambda bodies are referred to by method handles
+        for (final Object arg : ((InvokeDynamicInsnNode) each).bsmArgs) {
+          if ((arg instanceof Handle) && ((Handle) arg).getOwner().equals(owner)) {
+            found.add(key(((Handle) arg).getName(), ((Handle) arg).getDesc()));
+          }
+        }
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Records where labels, line numbers and frames fall among the
+   * instructions, as each is counted when instruction indexes are assigned,
+   * but labels are not written and line numbers are stripped.
+   */
+  private static String layout(final MethodNode method) {
+    final StringBuilder sb = new StringBuilder();
+    for (final AbstractInsnNode each : method.instructions) {
+      switch (each.getType()) {
+      case AbstractInsnNode.LABEL:
+        sb.append('L');
+        break;
+      case AbstractInsnNode.LINE:
+        sb.append('N');
+        break;
+      case AbstractInsnNode.FRAME:
+        sb.append('F');
+        break;
+      default:
+        sb.append('I');
+      }
+    }
+    return sb.toString();
+  }
+
+  private static void stripDebugInfo(final MethodNode method) {
+    final Iterator<AbstractInsnNode> it = method.instructions.iterator();
+    while (it.hasNext()) {
+      final int type = it.next().getType();
+      if ((type == AbstractInsnNode.LINE) || (type == AbstractInsnNode.FRAME)) {
+        it.remove();
+      }
+    }
+    method.localVariables = null;
+    method.visibleLocalVariableAnnotations = null;
+    method.invisibleLocalVariableAnnotations = null;
+  }
+
+  private static byte[] concat(final byte[] a, final byte[] b) {
+    final byte[] both = Arrays.copyOf(a, a.length + b.length);
+    System.arraycopy(b, 0, both, a.length, b.length);
+    return both;
+  }
+
+  private static byte[] methodBytes(final MethodNode method) {
+    // written alone, so the constant pool holds only what the method uses
+    final ClassWriter cw = new ClassWriter(0);
+    cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, "M", null, "java/lang/Object",
+        null);
+    method.accept(cw);
+    cw.visitEnd();
+    return cw.toByteArray();
+  }
+
+  private static long hash(final byte[] bytes) {
+    try {
+      return ByteBuffer.wrap(MessageDigest.getInstance("SHA-1").digest(bytes))
+          .getLong();
+    } catch (final NoSuchAlgorithmException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+}
@@ -2,25 +2,23 @@ package org.pitest.mutationtest.tooling;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.Reader;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Consumer;
 
 import org.pitest.classpath.ClassPath;
 import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.classpath.ClassPathIndex;
 import org.pitest.classpath.CodeSource;
 import org.pitest.classpath.ProjectClassPaths;
 import org.pitest.coverage.CoverageGenerator;
+import org.pitest.coverage.execute.CoverageCache;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.execute.DefaultCoverageGenerator;
-import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
-import org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore;
-import org.pitest.mutationtest.incremental.WriterFactory;
+import org.pitest.mutationtest.incremental.BinaryHistoryStore;
 import org.pitest.plugin.Feature;
 import org.pitest.plugin.FeatureParameter;
 import org.pitest.process.JavaAgent;
@@ -77,10 +75,11 @@ public class EntryPoint {
     
     selectTestPlugin(data);
 
-    final ClassPath cp = data.getClassPath();
-
-    final Optional<Reader> reader = data.createHistoryReader();
-    final WriterFactory historyWriter = data.createHistoryWriter();
+    final ClassPathIndex classPathIndex = ClassPathIndex.forHistory(
+        data.getHistoryInputLocation(), data.getHistoryOutputLocation());
+    classPathIndex.load();
+    final ProjectClassPaths cps = data.getMutationClassPaths(classPathIndex);
+    final ClassPath cp = cps.getClassPath();
 
     // workaround for apparent java 1.5 JVM bug . . . might not play nicely
     // with distributed testing
@@ -98,17 +97,22 @@ public class EntryPoint {
     final CoverageOptions coverageOptions = settings.createCoverageOptions();
     final LaunchOptions launchOptions = new LaunchOptions(ja,
         settings.getJavaExecutable(), data.getJvmArgs(), environmentVariables)
-        .usingClassPathJar(data.useClasspathJar());
-    final ProjectClassPaths cps = data.getMutationClassPaths();
+        .usingClassPathJar(data.useClasspathJar())
+        .usingClassDataSharing(data.useClassDataSharing());
 
     final CodeSource code = new CodeSource(cps);
 
     final Timings timings = new Timings();
     final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
         baseDir, coverageOptions, launchOptions, code,
-        settings.createCoverageExporter(), timings, !data.isVerbose());
+        settings.createCoverageExporter(), timings, !data.isVerbose(),
+        data.getNumberOfThreads(), CoverageCache.forHistory(
+            data.getHistoryInputLocation(), data.getHistoryOutputLocation(),
+            coverageOptions, code.getClassPath()));
 
-    final HistoryStore history = new ObjectOutputStreamHistoryStore(historyWriter, reader);
+    final BinaryHistoryStore history = new BinaryHistoryStore(
+        data.getHistoryInputLocation(), data.getHistoryOutputLocation(),
+        code.getByteSource());
 
     final MutationStrategies strategies = new MutationStrategies(
         settings.createEngine(), history, coverageDatabase, reportFactory,
@@ -117,14 +121,19 @@ public class EntryPoint {
     final MutationCoverage report = new MutationCoverage(strategies, baseDir,
         code, data, settings, timings);
 
+    Throwable failure = null;
     try {
       return AnalysisResult.success(report.runReport());
     } catch (final IOException e) {
       return AnalysisResult.fail(e);
+    } catch (final RuntimeException | Error e) {
+      failure = e;
+      throw e;
     } finally {
-      jac.close();
-      ja.close();
-      historyWriter.close();
+      closeAll(failure, jac::close, ja::close,
+          launchOptions.getClasspathJars()::close,
+          launchOptions.getClassDataSharing()::close, history::close,
+          classPathIndex::store, cp::close);
     }
 
   }
@@ -142,6 +151,34 @@ public class EntryPoint {
     report.signalAfterTheWholeBuild();
   }
 
+  /**
+   * Runs every close action even if earlier ones fail. Failures are attached
+   * to the exception already propagating, if there is one, otherwise the first
+   * is rethrown.
+   */
+  private static void closeAll(Throwable failure, Runnable... actions) {
+    RuntimeException closeFailure = null;
+    for (final Runnable each : actions) {
+      try {
+        each.run();
+      } catch (final RuntimeException e) {
+        if (closeFailure == null) {
+          closeFailure = e;
+        } else {
+          closeFailure.addSuppressed(e);
+        }
+      }
+    }
+    if (closeFailure == null) {
+      return;
+    }
+    if (failure != null) {
+      failure.addSuppressed(closeFailure);
+    } else {
+      throw closeFailure;
+    }
+  }
+
   private void checkMatrixMode(ReportOptions data) {
     if (data.isFullMutationMatrix() && !data.getOutputFormats().contains("XML")) {
       throw new PitError("Full mutation matrix is only supported in the output format XML.");
@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -30,7 +31,6 @@ import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
-import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CoverageDatabase;
@@ -62,6 +62,7 @@ import org.pitest.mutationtest.incremental.HistoryListener;
 import org.pitest.mutationtest.incremental.IncrementalAnalyser;
 import org.pitest.mutationtest.statistics.MutationStatisticsListener;
 import org.pitest.mutationtest.statistics.Score;
+import org.pitest.process.ProcessArgs;
 import org.pitest.util.Log;
 import org.pitest.util.StringUtil;
 import org.pitest.util.Timings;
@@ -114,6 +115,12 @@ public class MutationCoverage {
 
     final CoverageDatabase coverageData = coverage().calculateCoverage();
 
+    // built from the classes the coverage minions loaded
+    coverage().getLaunchOptions().getClassDataSharing().createArchive(
+        ProcessArgs.withClassPath(this.data.getClassPath().getLocalClassPath())
+            .andLaunchOptions(coverage().getLaunchOptions())
+            .andBaseDir(this.baseDir));
+
     LOG.fine("Used memory after coverage calculation "
         + ((runtime.totalMemory() - runtime.freeMemory()) / MB) + " mb");
     LOG.fine("Free Memory after coverage calculation "
@@ -123,17 +130,23 @@ public class MutationCoverage {
 
     final EngineArguments args = EngineArguments.arguments()
         .withExcludedMethods(this.data.getExcludedMethods())
-        .withMutators(this.data.getMutators());
+        .withMutators(this.data.getMutators())
+        .withMutantSchemata(this.data.useMutantSchemata());
     final MutationEngine engine = this.strategies.factory().createEngine(args);
 
+    final HistoryListener historyListener = new HistoryListener(history());
     final List<MutationResultListener> config = createConfig(t0, coverageData,
-        stats, engine);
+        stats, engine, historyListener);
 
     history().initialize();
 
+    final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
+        .getLaunchOptions());
+    final WorkerFactory wf = createWorkerFactory(mutationConfig, args);
+
     this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
     final List<MutationAnalysisUnit> tus = buildMutationTests(coverageData,
-        engine, args);
+        mutationConfig, wf);
     this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
 
     LOG.info("Created  " + tus.size() + " mutation test units");
@@ -149,7 +162,14 @@ public class MutationCoverage {
     final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(
         numberOfThreads(), config);
     this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
-    mae.run(tus);
+    try {
+      mae.run(tus);
+    } finally {
+      wf.close();
+      // the run may have failed before ending, leaving history still being
+      // written when the store is closed
+      historyListener.stop();
+    }
     this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
 
     LOG.info("Completed in " + timeSpan(t0));
@@ -198,7 +218,8 @@ public class MutationCoverage {
 
   private List<MutationResultListener> createConfig(final long t0,
       final CoverageDatabase coverageData,
-      final MutationStatisticsListener stats, final MutationEngine engine) {
+      final MutationStatisticsListener stats, final MutationEngine engine,
+      final HistoryListener historyListener) {
     final List<MutationResultListener> ls = new ArrayList<>();
 
     ls.add(stats);
@@ -211,7 +232,7 @@ public class MutationCoverage {
         .listenerFactory().getListener(this.data.getFreeFormProperties(), args);
 
     ls.add(mutationReportListener);
-    ls.add(new HistoryListener(history()));
+    ls.add(historyListener);
 
     if (!this.data.isVerbose()) {
       ls.add(new SpinnerListener(System.out));
@@ -264,39 +285,47 @@ public class MutationCoverage {
   }
 
   private List<MutationAnalysisUnit> buildMutationTests(
-      final CoverageDatabase coverageData, final MutationEngine engine, EngineArguments args) {
-
-    final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
-        .getLaunchOptions());
+      final CoverageDatabase coverageData, final MutationConfig mutationConfig,
+      final WorkerFactory wf) {
 
-    final ClassByteArraySource bas = fallbackToClassLoader(new ClassPathByteArraySource(
-        this.data.getClassPath()));
+    // shares the bytes already read when the code was found
+    final ClassByteArraySource bas = fallbackToClassLoader(this.code
+        .getByteSource());
 
     final TestPrioritiser testPrioritiser = this.settings.getTestPrioritiser()
         .makeTestPrioritiser(this.data.getFreeFormProperties(), this.code,
             coverageData);
 
-    final MutationInterceptor interceptor = this.settings.getInterceptor()
-        .createInterceptor(this.data, coverageData, bas);
+    // interceptors hold per class state, so each discovery thread needs its own
+    final Supplier<MutationInterceptor> interceptors = () -> this.settings
+        .getInterceptor().createInterceptor(this.data, coverageData, bas);
 
-    final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, bas, interceptor);
+    final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, bas, interceptors);
 
     final MutationAnalyser analyser = new IncrementalAnalyser(
         new DefaultCodeHistory(this.code, history()), coverageData);
 
-    final WorkerFactory wf = new WorkerFactory(this.baseDir, coverage()
-        .getConfiguration(), mutationConfig, args,
-        new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
-            this.data.getTimeoutConstant()), this.data.isVerbose(), this.data.isFullMutationMatrix(),
-            this.data.getClassPath().getLocalClassPath());
-
     final MutationGrouper grouper = this.settings.getMutationGrouper().makeFactory(
         this.data.getFreeFormProperties(), this.code,
         this.data.getNumberOfThreads(), this.data.getMutationUnitSize());
     final MutationTestBuilder builder = new MutationTestBuilder(wf, analyser,
-        source, grouper);
+        source, grouper, numberOfThreads());
 
-    return builder.createMutationTestUnits(this.code.getCodeUnderTestNames());
+    final List<MutationAnalysisUnit> units = builder
+        .createMutationTestUnits(this.code.getCodeUnderTestNames());
+    LOG.fine("Class bytes read during analysis " + this.code.getByteSource());
+    return units;
+  }
+
+  private WorkerFactory createWorkerFactory(final MutationConfig mutationConfig,
+      final EngineArguments args) {
+    return new WorkerFactory(this.baseDir, coverage()
+        .getConfiguration(), mutationConfig, args,
+        new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
+            this.data.getTimeoutConstant()), this.data.isVerbose(), this.data.isFullMutationMatrix(),
+            this.data.getClassPath().getLocalClassPath(), numberOfThreads(),
+            this.data.getMaxMinionBatches(),
+            fallbackToClassLoader(this.code.getByteSource()));
   }
 
   private void checkMutationsFound(final List<MutationAnalysisUnit> tus) {
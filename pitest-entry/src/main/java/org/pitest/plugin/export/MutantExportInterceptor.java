@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.util.Textifier;
@@ -66,10 +67,13 @@ public class MutantExportInterceptor implements MutationInterceptor {
       Collection<MutationDetails> mutations, Mutater m) {
 
     final List<MutationDetails> indexable = new ArrayList<>(mutations);
+    final List<Mutant> mutants = m.getMutations(indexable.stream()
+        .map(MutationDetails::getId)
+        .collect(Collectors.toList()));
 
     try {
       for (int i = 0; i != indexable.size(); i++) {
-        exportMutantDetails(m, indexable, i);
+        exportMutantDetails(mutants.get(i), indexable.get(i), i);
       }
     } catch (final IOException ex) {
       throw new RuntimeException("Error exporting mutants for report", ex);
@@ -78,14 +82,11 @@ public class MutantExportInterceptor implements MutationInterceptor {
     return mutations;
   }
 
-  private void exportMutantDetails(Mutater m, List<MutationDetails> indexable,
-      int i) throws IOException {
-    final MutationDetails md = indexable.get(i);
+  private void exportMutantDetails(Mutant mutant, MutationDetails md, int i)
+      throws IOException {
     final Path mutantFolder = this.mutantsDir.resolve("" + i);
     Files.createDirectories(mutantFolder);
 
-    final Mutant mutant = m.getMutation(md.getId());
-
     writeMutantToDisk(mutant, mutantFolder);
     writeBytecodeToDisk(mutant.getBytes(), mutantFolder);
     writeDetailsToDisk(md, mutantFolder);
@@ -0,0 +1,199 @@
+package org.pitest.process;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * Shares an archive of loaded classes between child processes, so that each
+ * need not load and verify the same classes from scratch.
+ *
+ * Child processes launched before the archive is created record the classes
+ * they load. The archive is then built from those lists, and passed to every
+ * child launched afterwards. If the JVM does not support application class
+ * data sharing, no classes were recorded, or the archive cannot be built,
+ * children are launched as normal. Children launched after the archive is
+ * attempted never record.
+ */
+public class ClassDataSharing {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private enum State {
+    UNTESTED, RECORDING, SHARING, OFF
+  }
+
+  private final List<File> classLists = new ArrayList<>();
+  private State            state;
+  private File             archive;
+
+  private ClassDataSharing(final State state) {
+    this.state = state;
+  }
+
+  public static ClassDataSharing disabled() {
+    return new ClassDataSharing(State.OFF);
+  }
+
+  public static ClassDataSharing enabled() {
+    return new ClassDataSharing(State.UNTESTED);
+  }
+
+  /**
+   * Arguments for a child JVM launched with the given executable.
+   */
+  public synchronized List<String> launchArgs(final String javaExecutable) {
+    if (this.state == State.UNTESTED) {
+      this.state = canRecord(javaExecutable) ? State.RECORDING : State.OFF;
+    }
+    switch (this.state) {
+    case RECORDING:
+      final File list = tempFile(".lst");
+      this.classLists.add(list);
+      return Collections.singletonList("-XX:DumpLoadedClassList=" + list);
+    case SHARING:
+      return Arrays.asList("-XX:SharedArchiveFile=" + this.archive,
+          "-Xshare:auto");
+    default:
+      return Collections.emptyList();
+    }
+  }
+
+  /**
+   * Builds the archive from the classes recorded so far. The archive is built
+   * with the same JVM, arguments and classpath as the children that will use
+   * it, as an archive is ignored by a JVM launched differently.
+   */
+  public synchronized void createArchive(final ProcessArgs args) {
+    if (this.state == State.UNTESTED) {
+      LOG.fine("No minion recorded the classes it loaded, so no class data sharing archive will be created");
+    }
+    if (this.state != State.RECORDING) {
+      // later children share the archive or launch as normal, never record
+      if (this.state != State.SHARING) {
+        this.state = State.OFF;
+      }
+      return;
+    }
+    this.state = State.OFF;
+    try {
+      final List<String> classes = mergeClassLists();
+      if (classes.isEmpty()) {
+        return;
+      }
+      final File classList = tempFile(".lst");
+      this.classLists.add(classList);
+      Files.write(classList.toPath(), classes, StandardCharsets.UTF_8);
+
+      final File jsa = tempFile(".jsa");
+      final List<String> cmd = new ArrayList<>();
+      cmd.add(args.getJavaExecutable());
+      if (args.useClasspathJar()) {
+        cmd.add("-classpath");
+        cmd.add(args.getClasspathJars().jarFor(args.getLaunchClassPath())
+            .getAbsolutePath());
+      }
+      cmd.addAll(args.getJvmArgs());
+      cmd.add("-Xshare:dump");
+      cmd.add("-XX:SharedClassListFile=" + classList);
+      cmd.add("-XX:SharedArchiveFile=" + jsa);
+
+      final ProcessBuilder pb = new ProcessBuilder(cmd);
+      if (!args.useClasspathJar()) {
+        pb.environment().put("CLASSPATH", args.getLaunchClassPath());
+      }
+      pb.directory(args.getWorkingDir());
+
+      if ((run(pb) == 0) && (jsa.length() != 0)) {
+        this.archive = jsa;
+        this.state = State.SHARING;
+        LOG.info("Sharing an archive of " + classes.size()
+            + " classes between minions");
+      } else {
+        jsa.delete();
+        LOG.info("Could not create a class data sharing archive. Minions will start without one.");
+      }
+    } catch (final IOException | InterruptedException e) {
+      LOG.log(Level.INFO, "Could not create class data sharing archive", e);
+    }
+  }
+
+  /**
+   * Deletes the class lists and archive.
+   */
+  public synchronized void close() {
+    for (final File each : this.classLists) {
+      each.delete();
+    }
+    this.classLists.clear();
+    if (this.archive != null) {
+      this.archive.delete();
+      this.archive = null;
+    }
+    this.state = State.OFF;
+  }
+
+  private List<String> mergeClassLists() throws IOException {
+    final Set<String> classes = new LinkedHashSet<>();
+    for (final File each : this.classLists) {
+      if (each.exists()) {
+        classes.addAll(Files.readAllLines(each.toPath(), StandardCharsets.UTF_8));
+      }
+    }
+    return new ArrayList<>(classes);
+  }
+
+  private static boolean canRecord(final String javaExecutable) {
+    try {
+      final File list = tempFile(".lst");
+      try {
+        return run(new ProcessBuilder(javaExecutable,
+            "-XX:DumpLoadedClassList=" + list, "-version")) == 0;
+      } finally {
+        list.delete();
+      }
+    } catch (final IOException | InterruptedException e) {
+      LOG.log(Level.FINE, "Could not check for class data sharing support", e);
+      return false;
+    }
+  }
+
+  private static int run(final ProcessBuilder pb)
+      throws IOException, InterruptedException {
+    pb.redirectErrorStream(true);
+    final Process p = pb.start();
+    try (BufferedReader r = new BufferedReader(
+        new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = r.readLine()) != null) {
+        LOG.fine("CDS : " + line);
+      }
+    }
+    return p.waitFor();
+  }
+
+  private static File tempFile(final String suffix) {
+    try {
+      final File f = File.createTempFile("pitest-cds", suffix);
+      f.deleteOnExit();
+      return f;
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+}
@@ -0,0 +1,45 @@
+package org.pitest.process;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.pitest.util.ManifestUtils;
+import org.pitest.util.Unchecked;
+
+/**
+ * Creates the jars used to pass the classpath to child processes. Each
+ * distinct classpath is written once, however many processes are launched
+ * with it.
+ */
+public class ClasspathJars {
+
+  private final Map<String, File> jars = new ConcurrentHashMap<>();
+
+  public File jarFor(final String classPath) {
+    // recreated if something has cleared the temp directory since
+    return this.jars.compute(classPath,
+        (cp, existing) -> (existing != null) && existing.exists() ? existing
+            : create(cp));
+  }
+
+  /**
+   * Deletes the jars created so far.
+   */
+  public void close() {
+    for (final File each : this.jars.values()) {
+      each.delete();
+    }
+    this.jars.clear();
+  }
+
+  private static File create(final String classPath) {
+    try {
+      return ManifestUtils.createClasspathJarFile(classPath);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+}
@@ -26,6 +26,8 @@ public class LaunchOptions {
   private final JavaExecutableLocator javaExecutable;
   private final Map<String, String>   environmentVariables;
   private final boolean               usingClassPathJar;
+  private final ClasspathJars         classpathJars;
+  private final ClassDataSharing      classDataSharing;
 
   public LaunchOptions(JavaAgent javaAgentFinder) {
     this(javaAgentFinder, new DefaultJavaExecutableLocator(), Collections
@@ -41,11 +43,21 @@ public class LaunchOptions {
   public LaunchOptions(JavaAgent javaAgentFinder,
       JavaExecutableLocator javaExecutable, List<String> childJVMArgs,
       Map<String, String> environmentVariables, boolean usingClassPathJar) {
+    this(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables,
+        usingClassPathJar, new ClasspathJars(), ClassDataSharing.disabled());
+  }
+
+  private LaunchOptions(JavaAgent javaAgentFinder,
+      JavaExecutableLocator javaExecutable, List<String> childJVMArgs,
+      Map<String, String> environmentVariables, boolean usingClassPathJar,
+      ClasspathJars classpathJars, ClassDataSharing classDataSharing) {
     this.javaAgentFinder = javaAgentFinder;
     this.childJVMArgs = childJVMArgs;
     this.javaExecutable = javaExecutable;
     this.environmentVariables = environmentVariables;
     this.usingClassPathJar = usingClassPathJar;
+    this.classpathJars = classpathJars;
+    this.classDataSharing = classDataSharing;
   }
 
   public JavaAgent getJavaAgentFinder() {
@@ -65,10 +77,27 @@ public class LaunchOptions {
   }
 
   public LaunchOptions usingClassPathJar(boolean useJar) {
-    return new LaunchOptions(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables, useJar);
+    return new LaunchOptions(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables, useJar, classpathJars, classDataSharing);
+  }
+
+  public LaunchOptions usingClassDataSharing(boolean share) {
+    return new LaunchOptions(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables, usingClassPathJar, classpathJars,
+        share ? ClassDataSharing.enabled() : ClassDataSharing.disabled());
   }
   
   public boolean useClasspathJar() {
     return usingClassPathJar;
   }
+
+  /**
+   * Classpath jars shared by every process launched with these options.
+   * Should be closed once those processes are finished.
+   */
+  public ClasspathJars getClasspathJars() {
+    return this.classpathJars;
+  }
+
+  public ClassDataSharing getClassDataSharing() {
+    return this.classDataSharing;
+  }
 }
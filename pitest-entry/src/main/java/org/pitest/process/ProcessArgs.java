@@ -36,6 +36,8 @@ public final class ProcessArgs {
   private String              javaExecutable;
   private Map<String, String> environmentVariables;
   private boolean             useClasspathJar = false;
+  private ClasspathJars       classpathJars   = new ClasspathJars();
+  private ClassDataSharing    classDataSharing = ClassDataSharing.disabled();
 
   private ProcessArgs(final String launchClassPath) {
     this.launchClassPath = launchClassPath;
@@ -107,6 +109,14 @@ public final class ProcessArgs {
   public boolean useClasspathJar() {
     return useClasspathJar;
   }
+
+  public ClasspathJars getClasspathJars() {
+    return this.classpathJars;
+  }
+
+  public ClassDataSharing getClassDataSharing() {
+    return this.classDataSharing;
+  }
   
   public ProcessArgs andLaunchOptions(final LaunchOptions launchOptions) {
     this.jvmArgs = launchOptions.getChildJVMArgs();
@@ -114,6 +124,8 @@ public final class ProcessArgs {
     this.javaExecutable = launchOptions.getJavaExecutable();
     this.environmentVariables = launchOptions.getEnvironmentVariables();
     this.useClasspathJar = launchOptions.useClasspathJar();
+    this.classpathJars = launchOptions.getClasspathJars();
+    this.classDataSharing = launchOptions.getClassDataSharing();
     return this;
   }
 
@@ -14,7 +14,6 @@ import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.pitest.functional.FCollection;
-import org.pitest.util.ManifestUtils;
 
 public class WrappingProcess {
 
@@ -103,6 +102,7 @@ public class WrappingProcess {
     createClasspathJar(classPath, cmd);
 
     cmd.addAll(args);
+    cmd.addAll(this.processArgs.getClassDataSharing().launchArgs(javaProcess));
 
     addPITJavaAgent(agentJarLocator, cmd);
     addLaunchJavaAgents(cmd);
@@ -116,8 +116,8 @@ public class WrappingProcess {
     if (this.processArgs.useClasspathJar()) {
       try {
         cmd.add("-classpath");
-        cmd.add(
-            ManifestUtils.createClasspathJarFile(classPath).getAbsolutePath());
+        cmd.add(this.processArgs.getClasspathJars().jarFor(classPath)
+            .getAbsolutePath());
       } catch (Exception e) {
         throw new RuntimeException("Unable to create jar to contain classpath",
             e);
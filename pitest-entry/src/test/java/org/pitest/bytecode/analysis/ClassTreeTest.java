@@ -6,7 +6,10 @@ import java.util.function.Function;
 
 import org.junit.Test;
 import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
 
 public class ClassTreeTest {
 
@@ -24,6 +27,28 @@ public class ClassTreeTest {
     assertThat(testee.methods().stream().map(toName())).containsExactly("<init>", "a", "b");
   }
 
+  @Test
+  public void shouldFindMethodsByLocation() {
+    final ClassTree testee = ClassTree.fromBytes(bytesFor(ParseMe.class));
+    final Location b = Location.location(ClassName.fromClass(ParseMe.class),
+        MethodName.fromString("b"), "()I");
+    assertThat(testee.method(b).map(m -> m.asLocation())).contains(b);
+  }
+
+  @Test
+  public void shouldNotFindMethodsWithDifferentDescriptors() {
+    final ClassTree testee = ClassTree.fromBytes(bytesFor(ParseMe.class));
+    assertThat(testee.method(Location.location(ClassName.fromClass(ParseMe.class),
+        MethodName.fromString("b"), "()V"))).isEmpty();
+  }
+
+  @Test
+  public void shouldNotFindMethodsInOtherClasses() {
+    final ClassTree testee = ClassTree.fromBytes(bytesFor(ParseMe.class));
+    assertThat(testee.method(Location.location(ClassName.fromClass(String.class),
+        MethodName.fromString("b"), "()I"))).isEmpty();
+  }
+
   @Test
   public void toStringShouldPrintBytecode() {
     final ClassTree testee = ClassTree.fromBytes(bytesFor(ParseMe.class));
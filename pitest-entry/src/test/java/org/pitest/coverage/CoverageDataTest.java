@@ -31,6 +31,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -142,6 +143,27 @@ public class CoverageDataTest {
         this.testee.getTestsForClass(this.foo), testInfoToString()));
   }
 
+  @Test
+  public void shouldIncludeTestsRecordedAfterTestsForClassFirstQueried() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 0,
+        1));
+    this.testee.getTestsForClass(this.foo);
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest2", 0,
+        2));
+    assertEquals(Arrays.asList("fooTest", "fooTest2"), FCollection.map(
+        this.testee.getTestsForClass(this.foo), testInfoToString()));
+  }
+
+  @Test
+  public void shouldNotReturnTestsForOtherClasses() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 0,
+        1));
+    this.testee.calculateClassCoverage(makeCoverageResult("bar", "barTest", 0,
+        1));
+    assertEquals(Arrays.asList("barTest"), FCollection.map(
+        this.testee.getTestsForClass(this.bar), testInfoToString()));
+  }
+
   @Test
   public void shouldReportAGreenSuiteWhenNoTestHasFailed() {
     this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 42,
@@ -215,6 +237,40 @@ public class CoverageDataTest {
     assertThat(actual.getTests()).contains("FooTest.fooTest");
   }
 
+  @Test
+  public void shouldResolveInstructionLocationsToTheBlockContainingThem() {
+    final Location l = Location.location(this.foo, MethodName.fromString("foo"), "V");
+    final BlockLocation first = new BlockLocation(l, 0, 0, 4);
+    final BlockLocation second = new BlockLocation(l, 1, 5, 9);
+    this.testee.calculateClassCoverage(new CoverageResult(new Description("fooTest"), 0,
+        true, Arrays.asList(first, second)));
+    this.testee.calculateClassCoverage(new CoverageResult(new Description("barTest"), 0,
+        true, Collections.singleton(second)));
+
+    assertEquals(Arrays.asList("fooTest"), FCollection.map(
+        this.testee.getTestsForInstructionLocation(new InstructionLocation(
+            new BlockLocation(l, 0, -1, -1), 3)), testInfoToString()));
+    assertEquals(Arrays.asList("barTest", "fooTest"), FCollection.map(
+        this.testee.getTestsForInstructionLocation(new InstructionLocation(
+            new BlockLocation(l, 1, -1, -1), 5)), testInfoToString()));
+    assertTrue(this.testee.getTestsForInstructionLocation(new InstructionLocation(
+        new BlockLocation(l, 1, -1, -1), 10)).isEmpty());
+  }
+
+  @Test
+  public void shouldExpandBlockCoverageToEachInstruction() {
+    final Location l = Location.location(this.foo, MethodName.fromString("foo"), "V");
+    final BlockLocation block = new BlockLocation(l, 0, 2, 4);
+    this.testee.calculateClassCoverage(new CoverageResult(new Description("fooTest"), 0,
+        true, Collections.singleton(block)));
+
+    final Map<InstructionLocation, Set<TestInfo>> actual = this.testee.getInstructionCoverage();
+
+    assertThat(actual).hasSize(3);
+    assertEquals(Arrays.asList("fooTest"), FCollection.map(
+        actual.get(new InstructionLocation(block, 3)), testInfoToString()));
+  }
+
   @Test
   public void shouldProvideListOfClassesForSourceFile() {
 
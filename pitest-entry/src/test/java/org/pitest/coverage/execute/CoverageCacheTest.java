@@ -0,0 +1,224 @@
+package org.pitest.coverage.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoMother;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.testapi.Description;
+
+public class CoverageCacheTest {
+
+  private static final ClassName TEST  = ClassName.fromString("com.example.FooTest");
+  private static final ClassName FOO   = ClassName.fromString("com.example.Foo");
+
+  @Rule
+  public TemporaryFolder         folder = new TemporaryFolder();
+
+  @Mock
+  private CodeSource             code;
+
+  private final List<ClassInfo>  classes = new ArrayList<>();
+
+  private File                   file;
+
+  @Before
+  public void setUp() throws Exception {
+    MockitoAnnotations.initMocks(this);
+    this.file = this.folder.newFile();
+    when(this.code.getClassInfo(any(Collection.class))).thenAnswer(a -> {
+      final Collection<?> names = (Collection<?>) a.getArguments()[0];
+      final List<ClassInfo> found = new ArrayList<>();
+      for (final ClassInfo each : this.classes) {
+        if (names.contains(each.getName())) {
+          found.add(each);
+        }
+      }
+      return found;
+    });
+  }
+
+  @Test
+  public void shouldReuseCoverageWhenNothingHasChanged() {
+    setHashes(1, 2);
+    recordAndStore(aResult(true));
+
+    final Optional<List<CoverageResult>> actual = load().reuse(testClass(1), this.code);
+
+    assertThat(actual).isPresent();
+    final CoverageResult result = actual.get().get(0);
+    assertThat(result.getTestUnitDescription()).isEqualTo(aResult(true).getTestUnitDescription());
+    assertThat(result.getCoverage()).containsExactlyElementsOf(aResult(true).getCoverage());
+    assertThat(result.getExecutionTime()).isEqualTo(42);
+  }
+
+  @Test
+  public void shouldNotReuseCoverageWhenTestClassHasChanged() {
+    setHashes(1, 2);
+    recordAndStore(aResult(true));
+
+    setHashes(3, 2);
+    assertThat(load().reuse(testClass(3), this.code)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReuseCoverageWhenCoveredClassHasChanged() {
+    setHashes(1, 2);
+    recordAndStore(aResult(true));
+
+    setHashes(1, 3);
+    assertThat(load().reuse(testClass(1), this.code)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotCacheFailingTests() {
+    setHashes(1, 2);
+    recordAndStore(aResult(false));
+
+    assertThat(load().reuse(testClass(1), this.code)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReuseCoverageRecordedWithDifferentConfiguration() {
+    setHashes(1, 2);
+    recordAndStore(aResult(true));
+
+    final CoverageCache other = new CoverageCache(this.file, this.file, "other");
+    other.load();
+    assertThat(other.reuse(testClass(1), this.code)).isEmpty();
+  }
+
+  @Test
+  public void shouldCarryReusedCoverageForwardToNextRun() {
+    setHashes(1, 2);
+    recordAndStore(aResult(true));
+
+    final CoverageCache second = load();
+    second.reuse(testClass(1), this.code);
+    second.store(this.code);
+
+    assertThat(load().reuse(testClass(1), this.code)).isPresent();
+  }
+
+  @Test
+  public void shouldDoNothingWhenDisabled() {
+    final CoverageCache testee = CoverageCache.disabled();
+    testee.load();
+    testee.record(aResult(true));
+    testee.store(this.code);
+    assertThat(testee.reuse(testClass(1), this.code)).isEmpty();
+  }
+
+  @Test
+  public void shouldIgnoreChangesToInstrumentedClassesInConfiguration()
+      throws IOException {
+    final File root = classPathWith("com/example/Foo.class",
+        "com/example/Helper.class");
+    final String before = CoverageCache.configurationFor(options("com.example.Foo"),
+        new ClassPath(Collections.singletonList(root)));
+
+    write(new File(root, "com/example/Foo.class"), "changed");
+
+    assertThat(CoverageCache.configurationFor(options("com.example.Foo"),
+        new ClassPath(Collections.singletonList(root)))).isEqualTo(before);
+  }
+
+  @Test
+  public void shouldChangeConfigurationWhenUninstrumentedFileChanges()
+      throws IOException {
+    final File root = classPathWith("com/example/Foo.class",
+        "com/example/Helper.class");
+    final String before = CoverageCache.configurationFor(options("com.example.Foo"),
+        new ClassPath(Collections.singletonList(root)));
+
+    write(new File(root, "com/example/Helper.class"), "changed");
+
+    assertThat(CoverageCache.configurationFor(options("com.example.Foo"),
+        new ClassPath(Collections.singletonList(root)))).isNotEqualTo(before);
+  }
+
+  @Test
+  public void shouldChangeConfigurationWhenTargetClassesChange()
+      throws IOException {
+    final ClassPath classPath = new ClassPath(Collections.singletonList(
+        classPathWith("com/example/Foo.class")));
+    assertThat(CoverageCache.configurationFor(options("com.example.Foo"), classPath))
+        .isNotEqualTo(CoverageCache.configurationFor(options("com.example.*"), classPath));
+  }
+
+  private File classPathWith(final String... files) throws IOException {
+    final File root = this.folder.newFolder();
+    for (final String each : files) {
+      write(new File(root, each), "");
+    }
+    return root;
+  }
+
+  private static void write(final File file, final String content)
+      throws IOException {
+    file.getParentFile().mkdirs();
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static CoverageOptions options(final String include) {
+    return new CoverageOptions(Collections.singletonList(include),
+        Collections.<String> emptyList(), TestPluginArguments.defaults(), false,
+        0);
+  }
+
+  private void recordAndStore(final CoverageResult result) {
+    final CoverageCache testee = load();
+    testee.record(result);
+    testee.store(this.code);
+  }
+
+  private CoverageCache load() {
+    final CoverageCache testee = new CoverageCache(this.file, this.file, "config");
+    testee.load();
+    return testee;
+  }
+
+  private void setHashes(final long testHash, final long fooHash) {
+    this.classes.clear();
+    this.classes.add(testClass(testHash));
+    this.classes.add(ClassInfoMother.make(new ClassIdentifier(fooHash, FOO)));
+  }
+
+  private static ClassInfo testClass(final long hash) {
+    return ClassInfoMother.make(new ClassIdentifier(hash, TEST));
+  }
+
+  private static CoverageResult aResult(final boolean green) {
+    final BlockLocation block = new BlockLocation(Location.location(FOO,
+        MethodName.fromString("bar"), "()V"), 1, 3, 7);
+    return new CoverageResult(new Description("shouldBar", TEST.asJavaName()),
+        42, green, Collections.singletonList(block));
+  }
+
+}
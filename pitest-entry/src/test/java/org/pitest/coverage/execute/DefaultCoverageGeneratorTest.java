@@ -0,0 +1,34 @@
+package org.pitest.coverage.execute;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class DefaultCoverageGeneratorTest {
+
+  @Test
+  public void shouldDealTestsRoundRobinBetweenPartitions() {
+    final List<List<String>> actual = DefaultCoverageGenerator
+        .partition(asList("a", "b", "c", "d", "e"), 2);
+    assertThat(actual).containsExactly(asList("a", "c", "e"), asList("b", "d"));
+  }
+
+  @Test
+  public void shouldNotCreateMorePartitionsThanTests() {
+    final List<List<String>> actual = DefaultCoverageGenerator
+        .partition(asList("a", "b"), 8);
+    assertThat(actual).hasSize(2);
+  }
+
+  @Test
+  public void shouldCreateOnePartitionWhenNoTests() {
+    final List<List<String>> actual = DefaultCoverageGenerator
+        .partition(Collections.<String>emptyList(), 4);
+    assertThat(actual).containsExactly(Collections.<String>emptyList());
+  }
+
+}
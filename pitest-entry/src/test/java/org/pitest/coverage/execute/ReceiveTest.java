@@ -4,14 +4,23 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.execute.WireFormat;
 import org.pitest.testapi.Description;
 import org.pitest.util.Id;
 import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
 import sun.pitest.CodeCoverageStore;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.when;
@@ -60,6 +69,45 @@ public class ReceiveTest {
     assertEquals(true, this.result.isGreenTest());
   }
 
+  @Test
+  public void shouldDecodeProbeBitsetsIntoBlocks() {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final SafeDataOutputStream os = new SafeDataOutputStream(bytes);
+    os.writeInt(WireFormat.BINARY.version());
+    os.writeInt(7);
+    os.writeString("foo");
+    // probes 1 to 3 for method a
+    os.writeInt(7);
+    os.writeString("a");
+    os.writeString("()V");
+    os.writeInt(1);
+    os.writeInt(3);
+    for (int i = 0; i != 3; i++) {
+      os.writeInt(i * 10);
+      os.writeInt((i * 10) + 9);
+    }
+    WireFormat.BINARY.writeDescription(os, this.description);
+    os.writeInt(7);
+    // class flag, plus probes 1 and 3
+    os.writeBytes(new byte[] { 0b1011 });
+    os.writeInt(CoveragePipe.END_OF_HITS);
+    os.writeBoolean(true);
+    os.writeInt(42);
+
+    final SafeDataInputStream in = new SafeDataInputStream(
+        new ByteArrayInputStream(bytes.toByteArray()));
+    this.testee.apply(Id.FORMAT, in);
+    this.testee.apply(Id.CLAZZ, in);
+    this.testee.apply(Id.PROBES, in);
+    this.testee.apply(Id.OUTCOME, in);
+
+    final Location loc = Location.location(ClassName.fromString("foo"),
+        MethodName.fromString("a"), "()V");
+    assertThat(this.result.getCoverage()).containsExactlyInAnyOrder(
+        new BlockLocation(loc, 0, 0, 9), new BlockLocation(loc, 2, 20, 29));
+    assertEquals(42, this.result.getExecutionTime());
+  }
+
   private void recordTestCoverage(final int executionTime, final int classId,
       final int probeNumber, final boolean testPassed) {
     when(this.is.readInt()).thenReturn(classId, executionTime);
@@ -0,0 +1,92 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.LocationMother;
+import org.pitest.mutationtest.LocationMother.LocationBuilder;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class CostBalancingGrouperTest {
+
+  private CostBalancingGrouper testee;
+
+  @Test
+  public void shouldPredictCostFromTimeOfAssignedTests() {
+    assertEquals(31, CostBalancingGrouper.predictCost(createDetails("foo", 10, 20)));
+  }
+
+  @Test
+  public void shouldPredictNonZeroCostForUncoveredMutations() {
+    assertEquals(1, CostBalancingGrouper.predictCost(createDetails("foo")));
+  }
+
+  @Test
+  public void shouldSplitExpensiveClasses() {
+    this.testee = new CostBalancingGrouper(1, 0);
+    final List<List<MutationDetails>> actual = group(createDetails("foo", 100),
+        createDetails("foo", 100), createDetails("foo", 100),
+        createDetails("foo", 100));
+    assertEquals(4, actual.size());
+  }
+
+  @Test
+  public void shouldPackCheapClassesTogether() {
+    this.testee = new CostBalancingGrouper(1, 0);
+    final MutationDetails expensive = createDetails("e", 1000);
+    final List<List<MutationDetails>> actual = group(createDetails("a"),
+        createDetails("b"), expensive, createDetails("c"), createDetails("d"));
+    assertEquals(2, actual.size());
+    assertThat(actual.get(1)).hasSize(4);
+  }
+
+  @Test
+  public void shouldReturnMostExpensiveUnitsFirst() {
+    this.testee = new CostBalancingGrouper(1, 0);
+    final MutationDetails expensive = createDetails("e", 1000);
+    final List<List<MutationDetails>> actual = group(createDetails("a"),
+        expensive);
+    assertThat(actual.get(0)).containsExactly(expensive);
+  }
+
+  @Test
+  public void shouldNotExceedUnitSize() {
+    this.testee = new CostBalancingGrouper(1, 2);
+    final List<List<MutationDetails>> actual = group(createDetails("a"),
+        createDetails("b"), createDetails("e", 1000), createDetails("c"),
+        createDetails("d"));
+    assertEquals(3, actual.size());
+    for (final List<MutationDetails> each : actual) {
+      assertThat(each.size()).isLessThanOrEqualTo(2);
+    }
+  }
+
+  private List<List<MutationDetails>> group(final MutationDetails... mutations) {
+    return this.testee.groupMutations(null, Arrays.asList(mutations));
+  }
+
+  private static MutationDetails createDetails(final String clazz,
+      final int... testTimes) {
+    final LocationBuilder lb = LocationMother.aLocation().withClass(
+        ClassName.fromString(clazz));
+    final MutationDetails md = new MutationDetails(aMutationId().withLocation(lb)
+        .build(), "", "desc", 42, 0);
+    final List<TestInfo> tests = new ArrayList<>();
+    for (final int each : testTimes) {
+      tests.add(new TestInfo(clazz + "Test", "test" + tests.size(), each,
+          Optional.<ClassName> empty(), 1));
+    }
+    md.addTestsInOrder(tests);
+    return md;
+  }
+
+}
@@ -5,6 +5,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.objectweb.asm.tree.ClassNode;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
@@ -69,7 +70,7 @@ public class MutationSourceTest {
 
     when(this.prioritiser.assignTests(any(MutationDetails.class))).thenReturn(
         expected);
-    when(this.mutater.findMutations(any(ClassName.class)))
+    when(this.mutater.findMutations(any(ClassNode.class)))
     .thenReturn(mutations);
     final MutationDetails actual = this.testee.createMutations(this.foo)
         .iterator().next();
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -16,6 +17,7 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.NullAnalyser;
 import org.pitest.mutationtest.engine.MutationDetails;
 
@@ -80,6 +82,37 @@ public class MutationTestBuilderTest {
     assertTrue(actual.get(0).priority() > actual.get(1).priority());
   }
 
+  @Test
+  public void shouldFindSameMutationsInSameOrderWhenDiscoveringInParallel() {
+    final List<ClassName> classes = new ArrayList<>();
+    for (int i = 0; i != 50; i++) {
+      final ClassName clazz = ClassName.fromString("foo" + i);
+      classes.add(clazz);
+      when(this.source.createMutations(clazz)).thenReturn(
+          Arrays.asList(createDetails(clazz.asJavaName()),
+              createDetails(clazz.asJavaName())));
+    }
+
+    final List<MutationDetails> serial = new ArrayList<>();
+    new MutationTestBuilder(this.wf, recordingAnalyser(serial), this.source,
+        new DefaultGrouper(0), 1).createMutationTestUnits(classes);
+
+    final List<MutationDetails> parallel = new ArrayList<>();
+    new MutationTestBuilder(this.wf, recordingAnalyser(parallel), this.source,
+        new DefaultGrouper(0), 4).createMutationTestUnits(classes);
+
+    assertEquals(100, parallel.size());
+    assertEquals(serial, parallel);
+  }
+
+  private static MutationAnalyser recordingAnalyser(
+      final List<MutationDetails> seen) {
+    return mutations -> {
+      seen.addAll(mutations);
+      return new NullAnalyser().analyse(mutations);
+    };
+  }
+
   private void assertCreatesOneTestUnitForTwoMutations() {
     final MutationDetails mutation1 = createDetails("foo");
     final MutationDetails mutation2 = createDetails("foo");
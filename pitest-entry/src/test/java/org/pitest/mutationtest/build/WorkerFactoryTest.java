@@ -0,0 +1,106 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.EngineArguments;
+import org.pitest.mutationtest.MutationConfig;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.MinionArguments;
+import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.process.LaunchOptions;
+import org.pitest.util.ExitCode;
+import org.pitest.util.NullJavaAgent;
+
+public class WorkerFactoryTest {
+
+  private WorkerFactory         testee;
+
+  @Mock
+  private MutationEngine        engine;
+
+  @Mock
+  private TimeoutLengthStrategy timeout;
+
+  @Mock
+  private MutationTestProcess   worker;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(this.engine.getName()).thenReturn("gregor");
+    when(this.worker.isAlive()).thenReturn(true);
+    this.testee = new WorkerFactory(null, TestPluginArguments.defaults(),
+        new MutationConfig(this.engine, new LaunchOptions(
+            NullJavaAgent.instance())), EngineArguments.arguments(),
+        this.timeout, false, false, "", 1, 2);
+  }
+
+  @Test
+  public void shouldReuseWorkerBelowBatchLimit() {
+    when(this.worker.batchesRun()).thenReturn(1);
+    this.testee.returnWorker(this.worker, ExitCode.OK);
+
+    assertThat(createWorker()).isSameAs(this.worker);
+    verify(this.worker).nextBatch(any(MinionArguments.class));
+    verify(this.worker, never()).destroy();
+  }
+
+  @Test
+  public void shouldDestroyWorkerAtBatchLimit() {
+    when(this.worker.batchesRun()).thenReturn(2);
+    this.testee.returnWorker(this.worker, ExitCode.OK);
+    verify(this.worker).destroy();
+  }
+
+  @Test
+  public void shouldDestroyWorkerThatDidNotFinishCleanly() {
+    when(this.worker.batchesRun()).thenReturn(1);
+    this.testee.returnWorker(this.worker, ExitCode.UNKNOWN_ERROR);
+    verify(this.worker).destroy();
+  }
+
+  @Test
+  public void shouldDestroyIdleWorkersWhenClosed() {
+    when(this.worker.batchesRun()).thenReturn(1);
+    this.testee.returnWorker(this.worker, ExitCode.OK);
+    this.testee.close();
+    verify(this.worker).destroy();
+  }
+
+  @Test
+  public void shouldNotReuseWorkerThatDiedWhileIdle() {
+    when(this.worker.batchesRun()).thenReturn(1);
+    this.testee.returnWorker(this.worker, ExitCode.OK);
+    when(this.worker.isAlive()).thenReturn(false);
+
+    final MutationTestProcess actual = createWorker();
+    try {
+      assertThat(actual).isNotSameAs(this.worker);
+      verify(this.worker).destroy();
+      verify(this.worker, never()).nextBatch(any(MinionArguments.class));
+    } finally {
+      actual.destroy();
+    }
+  }
+
+  private MutationTestProcess createWorker() {
+    return this.testee.createWorker(
+        Collections.<MutationDetails> emptyList(),
+        Collections.<ClassName> emptyList());
+  }
+
+}
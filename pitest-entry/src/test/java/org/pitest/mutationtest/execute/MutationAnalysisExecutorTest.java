@@ -0,0 +1,104 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.report.MutationTestResultMother.createDetails;
+import static org.pitest.mutationtest.report.MutationTestResultMother.createMetaData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.MutationAnalysisUnit;
+
+public class MutationAnalysisExecutorTest {
+
+  private final List<DetectionStatus> received = Collections.synchronizedList(new ArrayList<>());
+
+  @Test
+  public void shouldPassResultsToListenersInOrderOfCompletion() {
+    final CountDownLatch fastUnitReported = new CountDownLatch(1);
+
+    final MutationResultListener listener = new RecordingListener() {
+      @Override
+      public void handleMutationResult(ClassMutationResults results) {
+        super.handleMutationResult(results);
+        fastUnitReported.countDown();
+      }
+    };
+
+    final MutationAnalysisUnit slow = unit(() -> {
+      // only completes once the result of the later unit has been reported
+      fastUnitReported.await(10, TimeUnit.SECONDS);
+      return createMetaData(result(DetectionStatus.SURVIVED));
+    });
+    final MutationAnalysisUnit fast = unit(() -> createMetaData(result(DetectionStatus.KILLED)));
+
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(2,
+        Collections.singletonList(listener));
+    testee.run(Arrays.asList(slow, fast));
+
+    assertThat(this.received).containsExactly(DetectionStatus.KILLED,
+        DetectionStatus.SURVIVED);
+  }
+
+  @Test
+  public void shouldReportAllUnitsWhenRunOnSingleThread() {
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1,
+        Collections.singletonList(new RecordingListener()));
+    testee.run(Arrays.asList(
+        unit(() -> createMetaData(result(DetectionStatus.SURVIVED))),
+        unit(() -> createMetaData(result(DetectionStatus.KILLED)))));
+
+    assertThat(this.received).containsExactly(DetectionStatus.SURVIVED,
+        DetectionStatus.KILLED);
+  }
+
+  private static MutationResult result(DetectionStatus status) {
+    return new MutationResult(createDetails(),
+        MutationStatusTestPair.notAnalysed(1, status));
+  }
+
+  private static MutationAnalysisUnit unit(UnitBody body) {
+    return new MutationAnalysisUnit() {
+      @Override
+      public MutationMetaData call() throws Exception {
+        return body.call();
+      }
+
+      @Override
+      public int priority() {
+        return 0;
+      }
+    };
+  }
+
+  private interface UnitBody {
+    MutationMetaData call() throws Exception;
+  }
+
+  private class RecordingListener implements MutationResultListener {
+    @Override
+    public void runStart() {
+    }
+
+    @Override
+    public void handleMutationResult(ClassMutationResults results) {
+      results.getMutations().forEach(m -> MutationAnalysisExecutorTest.this.received.add(m.getStatus()));
+    }
+
+    @Override
+    public void runEnd() {
+    }
+  }
+
+}
@@ -0,0 +1,299 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class BinaryHistoryStoreTest {
+
+  private static final String COV = BigInteger.TEN.toString(16);
+
+  @Rule
+  public TemporaryFolder      folder = new TemporaryFolder();
+
+  @Mock
+  private CoverageDatabase    coverage;
+
+  private File                file;
+
+  @Before
+  public void setUp() throws IOException {
+    MockitoAnnotations.initMocks(this);
+    when(this.coverage.getCoverageIdForClass(any(ClassName.class)))
+        .thenReturn(BigInteger.TEN);
+    this.file = new File(this.folder.getRoot(), "history");
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveClassPath() {
+    final HierarchicalClassId foo = new HierarchicalClassId(
+        new ClassIdentifier(1, ClassName.fromString("foo")), "a");
+    final HierarchicalClassId bar = new HierarchicalClassId(
+        new ClassIdentifier(2, ClassName.fromString("com.example.Bar")), "b");
+
+    final BinaryHistoryStore writer = new BinaryHistoryStore(null, this.file);
+    writer.recordClassPath(Arrays.asList(foo, bar), this.coverage);
+    writer.close();
+
+    final Map<ClassName, ClassHistory> expected = new HashMap<>();
+    expected.put(foo.getName(), new ClassHistory(foo, COV));
+    expected.put(bar.getName(), new ClassHistory(bar, COV));
+    assertEquals(expected, readBack().getHistoricClassPath());
+  }
+
+  @Test
+  public void shouldRecordMethodHashesOfClasses() {
+    final HierarchicalClassId foo = new HierarchicalClassId(
+        new ClassIdentifier(1, ClassName.fromString("foo")), "a");
+    final byte[] bytes = ClassloaderByteArraySource.fromContext()
+        .getBytes(ClassName.fromClass(MethodHashesTest.Fixture.class)
+            .asJavaName()).get();
+
+    final BinaryHistoryStore writer = new BinaryHistoryStore(null, this.file,
+        clazz -> Optional.of(bytes));
+    writer.recordClassPath(Collections.singletonList(foo), this.coverage);
+    writer.close();
+
+    assertEquals(new ClassHistory(foo, COV, MethodHashes.forClass(bytes)),
+        readBack().getHistoricClassPath().get(foo.getName()));
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveResults() {
+    final MutationResult killed = result("foo", 1,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName"));
+    final MutationResult survived = result("bar", 2,
+        new MutationStatusTestPair(3, DetectionStatus.SURVIVED,
+            Collections.<String> emptyList(), Arrays.asList("a", "b", "a")));
+
+    final BinaryHistoryStore writer = new BinaryHistoryStore(null, this.file);
+    writer.recordResult(killed);
+    writer.recordResult(survived);
+    writer.close();
+
+    final Map<MutationIdentifier, MutationStatusTestPair> expected = new HashMap<>();
+    expected.put(killed.getDetails().getId(), killed.getStatusTestPair());
+    expected.put(survived.getDetails().getId(), survived.getStatusTestPair());
+    assertEquals(expected, readBack().getHistoricResults());
+  }
+
+  @Test
+  public void shouldRecordTestsCoveringSurvivors() {
+    final MutationResult survived = result("foo", 1,
+        new MutationStatusTestPair(2, DetectionStatus.SURVIVED, null));
+    survived.getDetails().addTestsInOrder(Arrays.asList(
+        new TestInfo("FooTest", "FooTest.a", 0, Optional.empty(), 0),
+        new TestInfo("FooTest", "FooTest.b", 0, Optional.empty(), 0)));
+    final MutationResult killed = result("foo", 2,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "FooTest.a"));
+    killed.getDetails().addTestsInOrder(Collections.singletonList(
+        new TestInfo("FooTest", "FooTest.a", 0, Optional.empty(), 0)));
+
+    final BinaryHistoryStore writer = new BinaryHistoryStore(null, this.file);
+    writer.recordResult(survived);
+    writer.recordResult(killed);
+    writer.close();
+
+    final Map<MutationIdentifier, List<String>> expected = new HashMap<>();
+    expected.put(survived.getDetails().getId(),
+        Arrays.asList("FooTest.a", "FooTest.b"));
+    assertEquals(expected, readBack().getHistoricCoveringTests());
+  }
+
+  @Test
+  public void shouldLookUpResultsOfSingleMutants() {
+    final MutationResult mr = result("foo", 1,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName"));
+
+    final BinaryHistoryStore writer = new BinaryHistoryStore(null, this.file);
+    writer.recordResult(mr);
+    writer.recordResult(result("foo", 2,
+        new MutationStatusTestPair(1, DetectionStatus.NO_COVERAGE, null)));
+    writer.close();
+
+    final Map<MutationIdentifier, MutationStatusTestPair> results = readBack()
+        .getHistoricResults();
+    assertEquals(mr.getStatusTestPair(), results.get(mr.getDetails().getId()));
+    assertNull(results.get(result("bar", 1, mr.getStatusTestPair())
+        .getDetails().getId()));
+  }
+
+  @Test
+  public void shouldReadHistoryBeforeOverwritingIt() {
+    final MutationResult mr = result("foo", 1,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName"));
+    final BinaryHistoryStore first = new BinaryHistoryStore(null, this.file);
+    first.recordResult(mr);
+    first.close();
+
+    final BinaryHistoryStore second = new BinaryHistoryStore(this.file,
+        this.file);
+    second.initialize();
+    second.recordResult(result("bar", 1, mr.getStatusTestPair()));
+    second.close();
+
+    assertEquals(mr.getStatusTestPair(),
+        second.getHistoricResults().get(mr.getDetails().getId()));
+    assertEquals(1, readBack().getHistoricResults().size());
+  }
+
+  @Test
+  public void shouldReadHistoryWrittenByObjectOutputStreamHistoryStore()
+      throws IOException {
+    final MutationResult mr = result("foo", 1,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName"));
+    final HierarchicalClassId foo = new HierarchicalClassId(
+        new ClassIdentifier(1, ClassName.fromString("foo")), "a");
+
+    try (PrintWriter pw = new PrintWriter(new OutputStreamWriter(
+        new FileOutputStream(this.file), "UTF-8"))) {
+      final ObjectOutputStreamHistoryStore legacy = new ObjectOutputStreamHistoryStore(
+          writerFor(pw), Optional.empty());
+      legacy.recordClassPath(Collections.singletonList(foo), this.coverage);
+      legacy.recordResult(mr);
+    }
+
+    final BinaryHistoryStore testee = readBack();
+    assertEquals(new ClassHistory(foo, COV),
+        testee.getHistoricClassPath().get(foo.getName()));
+    assertEquals(mr.getStatusTestPair(),
+        testee.getHistoricResults().get(mr.getDetails().getId()));
+  }
+
+  @Test
+  public void shouldIgnoreIncompleteFiles() throws IOException {
+    final BinaryHistoryStore writer = new BinaryHistoryStore(null, this.file);
+    writer.recordResult(result("foo", 1,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName")));
+    writer.close();
+    try (RandomAccessFile raf = new RandomAccessFile(this.file, "rw")) {
+      raf.setLength(raf.length() - 1);
+    }
+
+    final BinaryHistoryStore testee = new BinaryHistoryStore(this.file, null);
+    testee.initialize();
+    assertTrue(testee.getHistoricResults().isEmpty());
+  }
+
+  @Test
+  public void shouldIgnoreResultsRecordedAfterClose() {
+    final MutationResult mr = result("foo", 1,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName"));
+    final BinaryHistoryStore writer = new BinaryHistoryStore(null, this.file);
+    writer.recordResult(mr);
+    writer.close();
+
+    writer.recordResult(result("bar", 1, mr.getStatusTestPair()));
+    writer.close();
+
+    final Map<MutationIdentifier, MutationStatusTestPair> expected = new HashMap<>();
+    expected.put(mr.getDetails().getId(), mr.getStatusTestPair());
+    assertEquals(expected, readBack().getHistoricResults());
+  }
+
+  @Test
+  public void shouldNotWriteFileLargerThanLimit() {
+    final BinaryHistoryStore writer = new BinaryHistoryStore(null, this.file,
+        clazz -> Optional.empty(), 64);
+    for (int i = 0; i != 100; i++) {
+      writer.recordResult(result("foo", i,
+          new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName")));
+    }
+    writer.close();
+
+    assertFalse(this.file.exists());
+    assertTrue(readBack().getHistoricResults().isEmpty());
+  }
+
+  @Test
+  public void shouldWriteFileWithinLimit() {
+    final MutationResult mr = result("foo", 1,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName"));
+    final BinaryHistoryStore writer = new BinaryHistoryStore(null, this.file,
+        clazz -> Optional.empty(), 1024);
+    writer.recordResult(mr);
+    writer.close();
+
+    assertEquals(mr.getStatusTestPair(),
+        readBack().getHistoricResults().get(mr.getDetails().getId()));
+  }
+
+  @Test
+  public void shouldNotWriteFileWhenNoneSupplied() {
+    final BinaryHistoryStore testee = new BinaryHistoryStore(null, null);
+    testee.initialize();
+    testee.recordResult(result("foo", 1,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName")));
+    testee.close();
+    assertFalse(this.file.exists());
+  }
+
+  private BinaryHistoryStore readBack() {
+    final BinaryHistoryStore store = new BinaryHistoryStore(this.file, null);
+    store.initialize();
+    return store;
+  }
+
+  private static MutationResult result(final String clazz, final int index,
+      final MutationStatusTestPair status) {
+    final MutationIdentifier id = new MutationIdentifier(
+        Location.location(ClassName.fromString(clazz),
+            MethodName.fromString("method"), "()V"),
+        Arrays.asList(index, index + 1), "mutator");
+    return new MutationResult(new MutationDetails(id, "file", "desc", 42, 0),
+        status);
+  }
+
+  private static WriterFactory writerFor(final PrintWriter pw) {
+    return new WriterFactory() {
+      @Override
+      public PrintWriter create() {
+        return pw;
+      }
+
+      @Override
+      public void close() {
+
+      }
+    };
+  }
+
+}
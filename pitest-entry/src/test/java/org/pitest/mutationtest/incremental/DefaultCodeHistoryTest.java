@@ -6,7 +6,9 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Before;
@@ -19,10 +21,13 @@ import org.pitest.classinfo.ClassInfoMother;
 import org.pitest.classinfo.ClassInfoSource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.ClassloaderByteArraySource;
 import java.util.Optional;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public class DefaultCodeHistoryTest {
@@ -62,6 +67,19 @@ public class DefaultCodeHistoryTest {
     assertEquals(Optional.ofNullable(expected), actual);
   }
 
+  @Test
+  public void shouldReturnTestsThatCoveredMutantWhenKnown() {
+    final MutationIdentifier id = aMutationId().build();
+    final Map<MutationIdentifier, List<String>> covering = new HashMap<>();
+    covering.put(id, Collections.singletonList("fooTest"));
+    this.testee = new DefaultCodeHistory(this.classInfoSource,
+        c -> Optional.empty(), this.results, covering, this.historicClassPath);
+    assertEquals(Collections.singletonList("fooTest"),
+        this.testee.getPreviousCoveringTests(id));
+    assertTrue(this.testee.getPreviousCoveringTests(
+        aMutationId().withIndex(2).build()).isEmpty());
+  }
+
   @Test
   public void shouldTreatNewClassAsChanged() {
     assertTrue(this.testee
@@ -109,6 +127,63 @@ public class DefaultCodeHistoryTest {
     assertFalse(this.testee.hasClassChanged(ClassName.fromString("foo")));
   }
 
+  @Test
+  public void shouldTreatMethodsWithSameHashAsUnchanged() {
+    final ClassName foo = ClassName.fromString("foo");
+    final HierarchicalClassId currentId = new HierarchicalClassId(0, foo, "0");
+    setCurrentClassPath(currentId);
+    this.historicClassPath.put(foo, new ClassHistory(currentId, "",
+        MethodHashes.forClass(fixture())));
+    this.testee = withCurrentBytes(fixture());
+    assertTrue(this.testee.isMethodUnchanged(Location.location(foo,
+        MethodName.fromString("a"), "()I")));
+  }
+
+  @Test
+  public void shouldTreatMethodsWithDifferentHashAsChanged() {
+    final ClassName foo = ClassName.fromString("foo");
+    final HierarchicalClassId currentId = new HierarchicalClassId(0, foo, "0");
+    setCurrentClassPath(currentId);
+    this.historicClassPath.put(foo, new ClassHistory(currentId, "",
+        Collections.singletonMap("a()I", "0")));
+    this.testee = withCurrentBytes(fixture());
+    assertFalse(this.testee.isMethodUnchanged(Location.location(foo,
+        MethodName.fromString("a"), "()I")));
+  }
+
+  @Test
+  public void shouldTreatMethodsOfClassesWithModifiedParentAsChanged() {
+    final ClassName foo = ClassName.fromString("foo");
+    setCurrentClassPath(new HierarchicalClassId(0, foo, "0"));
+    this.historicClassPath.put(foo, new ClassHistory(
+        new HierarchicalClassId(0, foo, "1"), "",
+        MethodHashes.forClass(fixture())));
+    this.testee = withCurrentBytes(fixture());
+    assertFalse(this.testee.isMethodUnchanged(Location.location(foo,
+        MethodName.fromString("a"), "()I")));
+  }
+
+  @Test
+  public void shouldTreatMethodsAsChangedWhenNoMethodHistoryExists() {
+    final ClassName foo = ClassName.fromString("foo");
+    final HierarchicalClassId currentId = new HierarchicalClassId(0, foo, "0");
+    setCurrentClassPath(currentId);
+    this.historicClassPath.put(foo, makeHistory(currentId));
+    assertFalse(this.testee.isMethodUnchanged(Location.location(foo,
+        MethodName.fromString("a"), "()I")));
+  }
+
+  private DefaultCodeHistory withCurrentBytes(final byte[] bytes) {
+    return new DefaultCodeHistory(this.classInfoSource,
+        c -> Optional.of(bytes), this.results, this.historicClassPath);
+  }
+
+  private static byte[] fixture() {
+    return ClassloaderByteArraySource.fromContext()
+        .getBytes(ClassName.fromClass(MethodHashesTest.Fixture.class)
+            .asJavaName()).get();
+  }
+
   private void setCurrentClassPath(final HierarchicalClassId currentId) {
     final ClassInfo currentClass = ClassInfoMother.make(currentId.getId());
     when(this.classInfoSource.fetchClass(ClassName.fromString("foo")))
@@ -1,5 +1,8 @@
 package org.pitest.mutationtest.incremental;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -10,7 +13,9 @@ import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.report.MutationTestResultMother;
+import org.pitest.util.PitError;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 
 public class HistoryListenerTest {
@@ -35,6 +40,87 @@ public class HistoryListenerTest {
     verify(this.store).recordResult(mr);
   }
 
+  @Test
+  public void shouldRecordAllResultsBeforeRunEnds() {
+    final MutationResult mr = makeResult();
+    this.testee.runStart();
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(mr));
+    this.testee.runEnd();
+    verify(this.store).recordResult(mr);
+  }
+
+  @Test
+  public void shouldRecordResultsOffTheListenerThreadDuringARun() {
+    final List<Thread> recordedOn = new ArrayList<>();
+    this.testee = new HistoryListener(new NullHistoryStore() {
+      @Override
+      public void recordResult(final MutationResult result) {
+        recordedOn.add(Thread.currentThread());
+      }
+    });
+    this.testee.runStart();
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(makeResult()));
+    this.testee.runEnd();
+    assertThat(recordedOn).hasSize(1);
+    assertThat(recordedOn.get(0)).isNotSameAs(Thread.currentThread());
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldReportFailuresToRecordWhenRunEnds() {
+    this.testee = new HistoryListener(new NullHistoryStore() {
+      @Override
+      public void recordResult(final MutationResult result) {
+        throw new PitError("disk full");
+      }
+    });
+    this.testee.runStart();
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(makeResult()));
+    this.testee.runEnd();
+  }
+
+  @Test(expected = OutOfMemoryError.class)
+  public void shouldReportErrorsThrownWhileRecordingWhenRunEnds() {
+    this.testee = new HistoryListener(new NullHistoryStore() {
+      @Override
+      public void recordResult(final MutationResult result) {
+        throw new OutOfMemoryError();
+      }
+    });
+    this.testee.runStart();
+    for (int i = 0; i != 2000; i++) {
+      this.testee.handleMutationResult(MutationTestResultMother
+          .createClassResults(makeResult()));
+    }
+    this.testee.runEnd();
+  }
+
+  @Test
+  public void shouldFinishRecordingWhenStoppedBeforeRunEnds() {
+    final List<MutationResult> recorded = new ArrayList<>();
+    this.testee = new HistoryListener(new NullHistoryStore() {
+      @Override
+      public void recordResult(final MutationResult result) {
+        recorded.add(result);
+      }
+    });
+    final MutationResult mr = makeResult();
+    this.testee.runStart();
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(mr));
+    this.testee.stop();
+    assertThat(recorded).containsExactly(mr);
+  }
+
+  @Test
+  public void shouldDoNothingWhenStoppedAfterRunEnds() {
+    this.testee.runStart();
+    this.testee.runEnd();
+    this.testee.stop();
+  }
+
   private MutationResult makeResult() {
     return new MutationResult(
         MutationTestResultMother.createDetails(), MutationStatusTestPair.notAnalysed(0,
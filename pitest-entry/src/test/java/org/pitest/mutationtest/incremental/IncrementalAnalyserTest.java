@@ -128,6 +128,54 @@ public class IncrementalAnalyserTest {
             ));
   }
 
+  @Test
+  public void shouldStartPreviousSurvivedMutationsAtAStatusOfSurvivedWhenItsTestsHaveNotChanged() {
+    final MutationDetails md = makeMutation("foo");
+    md.addTestsInOrder(singletonList(aTest("TEST_CLASS", "fooTest")));
+    setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
+    when(this.history.getPreviousCoveringTests(md.getId()))
+    .thenReturn(singletonList("fooTest"));
+    when(
+        this.history.hasCoverageChanged(any(ClassName.class),
+            any(BigInteger.class))).thenReturn(true);
+    final Collection<MutationResult> actual = this.testee.analyse(singletonList(md));
+
+    assertThat(actual, hasItem(withStatus(SURVIVED)));
+  }
+
+  @Test
+  public void shouldStartPreviousSurvivedMutationsAtAStatusOfNotStartedWhenNewTestCoversThem() {
+    final MutationDetails md = makeMutation("foo");
+    md.addTestsInOrder(asList(aTest("TEST_CLASS", "fooTest"),
+        aTest("TEST_CLASS", "newTest")));
+    setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
+    when(this.history.getPreviousCoveringTests(md.getId()))
+    .thenReturn(singletonList("fooTest"));
+    when(
+        this.history.hasCoverageChanged(any(ClassName.class),
+            any(BigInteger.class))).thenReturn(true);
+    final Collection<MutationResult> actual = this.testee.analyse(singletonList(md));
+
+    assertThat(actual, hasItem(withStatus(NOT_STARTED)));
+  }
+
+  @Test
+  public void shouldStartPreviousSurvivedMutationsAtAStatusOfNotStartedWhenOneOfTheirTestsHasChanged() {
+    final MutationDetails md = makeMutation("foo");
+    md.addTestsInOrder(singletonList(aTest("TEST_CLASS", "fooTest")));
+    setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
+    when(this.history.getPreviousCoveringTests(md.getId()))
+    .thenReturn(singletonList("fooTest"));
+    when(this.history.hasClassChanged(ClassName.fromString("TEST_CLASS")))
+    .thenReturn(true);
+    when(
+        this.history.hasCoverageChanged(any(ClassName.class),
+            any(BigInteger.class))).thenReturn(true);
+    final Collection<MutationResult> actual = this.testee.analyse(singletonList(md));
+
+    assertThat(actual, hasItem(withStatus(NOT_STARTED)));
+  }
+
   @Test
   public void shouldStartPreviousTimedOutMutationsAtAStatusOfNotStartedWhenClassHasChanged() {
     final MutationDetails md = makeMutation("foo");
@@ -181,6 +229,26 @@ public class IncrementalAnalyserTest {
 
   }
 
+  @Test
+  public void shouldStartPreviousKilledMutationsAtAStatusOfKilledWhenOnlyOtherMethodsOfClassHaveChanged() {
+    final MutationDetails md = makeMutation("foo");
+    final String killingTest = "fooTest";
+    setHistoryForAllMutationsTo(DetectionStatus.KILLED, killingTest);
+
+    final Collection<TestInfo> tests = Collections.singleton(new TestInfo(
+        "TEST_CLASS", killingTest, 0, Optional.empty(), 0));
+    when(this.coverage.getTestsForClass(any(ClassName.class)))
+    .thenReturn(tests);
+    when(this.history.hasClassChanged(ClassName.fromString("clazz")))
+    .thenReturn(true);
+    when(this.history.isMethodUnchanged(md.getId().getLocation()))
+    .thenReturn(true);
+    final Collection<MutationResult> actual = this.testee
+        .analyse(singletonList(md));
+
+    assertThat(actual, hasItem(allOf(withStatus(KILLED), withKillingTest(killingTest))));
+  }
+
   @Test
   public void shouldStartPreviousKilledMutationsAtAStatusOfKilledWhenNeitherClassHasChangedNorTestHasChangedForAtLeastOneKillingTest() {
     final MutationDetails md = makeMutation("foo");
@@ -346,6 +414,10 @@ public class IncrementalAnalyserTest {
     };
   }
 
+  private static TestInfo aTest(final String testClass, final String name) {
+    return new TestInfo(testClass, name, 0, Optional.empty(), 0);
+  }
+
   private MutationDetails makeMutation(final String method) {
     final MutationIdentifier id = aMutationId().withLocation(
         aLocation().withMethod(method)).build();
@@ -0,0 +1,184 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+
+public class MethodHashesTest {
+
+  private final Map<String, String> original = MethodHashes.forClass(fixture());
+
+  @Test
+  public void shouldHashEachMethod() {
+    assertThat(this.original).containsKeys("a()I", "b()I", "c()I",
+        "d()Ljava/lang/Runnable;", "e()I", "f()I", "<init>()V",
+        "<clinit>()V");
+  }
+
+  @Test
+  public void shouldIgnoreLineNumbers() {
+    final Map<String, String> actual = MethodHashes.forClass(transform(c -> {
+      for (final MethodNode each : c.methods) {
+        for (final AbstractInsnNode insn : each.instructions) {
+          if (insn instanceof LineNumberNode) {
+            ((LineNumberNode) insn).line += 100;
+          }
+        }
+      }
+    }));
+    assertThat(actual).isEqualTo(this.original);
+  }
+
+  @Test
+  public void shouldChangeHashWhenLineNumberIsAdded() {
+    // line numbers are counted when mutants are given instruction indexes
+    final Map<String, String> actual = MethodHashes.forClass(transform(c -> {
+      final LabelNode label = new LabelNode();
+      method(c, "c").instructions.insert(new LineNumberNode(1000, label));
+      method(c, "c").instructions.insert(label);
+    }));
+    assertThat(actual.get("c()I")).isNotEqualTo(this.original.get("c()I"));
+    assertThat(actual.get("b()I")).isEqualTo(this.original.get("b()I"));
+  }
+
+  @Test
+  public void shouldChangeHashOfModifiedMethodOnly() {
+    final Map<String, String> actual = MethodHashes
+        .forClass(transform(c -> addNop(method(c, "c"))));
+    assertThat(actual.get("c()I")).isNotEqualTo(this.original.get("c()I"));
+    assertThat(actual.get("b()I")).isEqualTo(this.original.get("b()I"));
+    assertThat(actual.get("a()I")).isEqualTo(this.original.get("a()I"));
+  }
+
+  @Test
+  public void shouldChangeHashOfMethodsCallingModifiedMethod() {
+    final Map<String, String> actual = MethodHashes
+        .forClass(transform(c -> addNop(method(c, "b"))));
+    assertThat(actual.get("a()I")).isNotEqualTo(this.original.get("a()I"));
+    assertThat(actual.get("c()I")).isEqualTo(this.original.get("c()I"));
+  }
+
+  @Test
+  public void shouldChangeHashOfMethodsWhoseLambdasCallModifiedMethod() {
+    final Map<String, String> actual = MethodHashes
+        .forClass(transform(c -> addNop(method(c, "c"))));
+    assertThat(actual.get("d()Ljava/lang/Runnable;"))
+        .isNotEqualTo(this.original.get("d()Ljava/lang/Runnable;"));
+  }
+
+  @Test
+  public void shouldChangeHashOfEveryMethodWhenFieldsChange() {
+    final Map<String, String> actual = MethodHashes.forClass(transform(
+        c -> c.fields.add(new FieldNode(Opcodes.ACC_PRIVATE, "added", "I",
+            null, null))));
+    for (final Map.Entry<String, String> each : this.original.entrySet()) {
+      assertThat(actual.get(each.getKey())).isNotEqualTo(each.getValue());
+    }
+  }
+
+  @Test
+  public void shouldChangeHashOfMethodsReadingFieldSetInModifiedConstructor() {
+    final Map<String, String> actual = MethodHashes.forClass(transform(c -> {
+      for (final AbstractInsnNode each : method(c, "<init>").instructions) {
+        if (each.getOpcode() == Opcodes.BIPUSH) {
+          ((IntInsnNode) each).operand = 20;
+        }
+      }
+    }));
+    assertThat(actual.get("e()I")).isNotEqualTo(this.original.get("e()I"));
+    assertThat(actual.get("b()I")).isEqualTo(this.original.get("b()I"));
+  }
+
+  @Test
+  public void shouldChangeHashOfMethodsReadingFieldSetInModifiedStaticInitialiser() {
+    final Map<String, String> actual = MethodHashes.forClass(transform(c -> {
+      for (final AbstractInsnNode each : method(c, "<clinit>").instructions) {
+        if (each instanceof LdcInsnNode) {
+          ((LdcInsnNode) each).cst = "4";
+        }
+      }
+    }));
+    assertThat(actual.get("f()I")).isNotEqualTo(this.original.get("f()I"));
+    assertThat(actual.get("b()I")).isEqualTo(this.original.get("b()I"));
+  }
+
+  @Test
+  public void shouldReturnNoHashesForUnreadableClasses() {
+    assertThat(MethodHashes.forClass(new byte[] { 1, 2, 3 })).isEmpty();
+  }
+
+  private static byte[] fixture() {
+    return ClassloaderByteArraySource.fromContext()
+        .getBytes(ClassName.fromClass(Fixture.class).asJavaName()).get();
+  }
+
+  private static byte[] transform(final Consumer<ClassNode> change) {
+    final ClassNode node = new ClassNode();
+    new ClassReader(fixture()).accept(node, 0);
+    change.accept(node);
+    final ClassWriter cw = new ClassWriter(0);
+    node.accept(cw);
+    return cw.toByteArray();
+  }
+
+  private static MethodNode method(final ClassNode node, final String name) {
+    return node.methods.stream().filter(m -> m.name.equals(name)).findFirst()
+        .get();
+  }
+
+  private static void addNop(final MethodNode method) {
+    method.instructions.insert(new InsnNode(Opcodes.NOP));
+  }
+
+  static class Fixture {
+    static int count = Integer.parseInt("3");
+
+    private final int limit;
+
+    Fixture() {
+      this.limit = 10;
+    }
+
+    int a() {
+      return b() + 1;
+    }
+
+    int b() {
+      return 2;
+    }
+
+    int c() {
+      return 3;
+    }
+
+    Runnable d() {
+      return () -> c();
+    }
+
+    int e() {
+      return this.limit;
+    }
+
+    static int f() {
+      return count;
+    }
+  }
+
+}
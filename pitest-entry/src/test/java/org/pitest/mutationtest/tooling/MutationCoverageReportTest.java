@@ -39,6 +39,7 @@ import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassInfoMother;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.CoverageGenerator;
@@ -58,6 +59,8 @@ import org.pitest.mutationtest.engine.MutationDetailsMother;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
 import org.pitest.mutationtest.verify.BuildVerifier;
+import org.pitest.process.LaunchOptions;
+import org.pitest.util.NullJavaAgent;
 import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.Timings;
 import org.pitest.util.Unchecked;
@@ -106,7 +109,12 @@ public class MutationCoverageReportTest {
     MockitoAnnotations.initMocks(this);
     this.data = new ReportOptions();
     this.data.setSourceDirs(Collections.<File> emptyList());
+    when(this.code.getClassPath()).thenReturn(this.data.getClassPath());
+    when(this.code.getByteSource()).thenReturn(
+        new ClassPathByteArraySource(this.data.getClassPath()));
     when(this.coverage.calculateCoverage()).thenReturn(this.coverageDb);
+    when(this.coverage.getLaunchOptions()).thenReturn(
+        new LaunchOptions(NullJavaAgent.instance()));
     when(
         this.listenerFactory.getListener(Matchers.<Properties> any(),
             any(ListenerArguments.class))).thenReturn(this.listener);
@@ -0,0 +1,84 @@
+package org.pitest.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.pitest.classpath.ClassPath;
+import org.pitest.util.NullJavaAgent;
+
+public class ClassDataSharingTest {
+
+  private final String     java   = new DefaultJavaExecutableLocator()
+      .javaExecutable();
+
+  private ClassDataSharing testee = ClassDataSharing.enabled();
+
+  @After
+  public void tearDown() {
+    this.testee.close();
+  }
+
+  @Test
+  public void shouldAddNoArgumentsWhenDisabled() {
+    this.testee = ClassDataSharing.disabled();
+    assertThat(this.testee.launchArgs(this.java)).isEmpty();
+  }
+
+  @Test
+  public void shouldAddNoArgumentsWhenJvmCannotBeLaunched() {
+    assertThat(this.testee.launchArgs("/not/a/java/executable")).isEmpty();
+  }
+
+  @Test
+  public void shouldStopRecordingOnceArchiveHasBeenAttempted() {
+    this.testee.launchArgs(this.java);
+    this.testee.createArchive(launchArgs());
+    assertFalse(this.testee.launchArgs(this.java).stream()
+        .anyMatch(arg -> arg.startsWith("-XX:DumpLoadedClassList")));
+  }
+
+  @Test
+  public void shouldNotRecordWhenArchiveAttemptedBeforeAnyLaunch() {
+    this.testee.createArchive(launchArgs());
+    assertThat(this.testee.launchArgs(this.java)).isEmpty();
+  }
+
+  @Test
+  public void shouldShareArchiveBuiltFromRecordedClasses() throws Exception {
+    final List<String> recording = this.testee.launchArgs(this.java);
+    assumeTrue(!recording.isEmpty());
+
+    final List<String> cmd = new ArrayList<>();
+    cmd.add(this.java);
+    cmd.addAll(recording);
+    cmd.add("-version");
+    assertEquals(0, new ProcessBuilder(cmd).redirectErrorStream(true)
+        .redirectOutput(ProcessBuilder.Redirect.INHERIT).start().waitFor());
+
+    this.testee.createArchive(launchArgs());
+
+    final List<String> sharing = this.testee.launchArgs(this.java);
+    assertThat(sharing).hasSize(2);
+    assertTrue(sharing.get(0).startsWith("-XX:SharedArchiveFile="));
+    assertTrue(new File(sharing.get(0).substring(
+        "-XX:SharedArchiveFile=".length())).length() != 0);
+    assertEquals("-Xshare:auto", sharing.get(1));
+  }
+
+  private ProcessArgs launchArgs() {
+    final LaunchOptions options = new LaunchOptions(NullJavaAgent.instance());
+    return ProcessArgs.withClassPath(new ClassPath().getLocalClassPath())
+        .andLaunchOptions(options)
+        .andBaseDir(new File(System.getProperty("user.dir")));
+  }
+
+}
@@ -0,0 +1,47 @@
+package org.pitest.process;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class ClasspathJarsTest {
+
+  private final ClasspathJars testee = new ClasspathJars();
+
+  @After
+  public void tearDown() {
+    this.testee.close();
+  }
+
+  @Test
+  public void shouldReuseJarForSameClassPath() {
+    assertEquals(this.testee.jarFor("foo.jar"), this.testee.jarFor("foo.jar"));
+  }
+
+  @Test
+  public void shouldCreateSeparateJarsForDifferentClassPaths() {
+    assertNotEquals(this.testee.jarFor("foo.jar"),
+        this.testee.jarFor("bar.jar"));
+  }
+
+  @Test
+  public void shouldRecreateJarThatHasBeenDeleted() {
+    final File jar = this.testee.jarFor("foo.jar");
+    jar.delete();
+    assertTrue(this.testee.jarFor("foo.jar").exists());
+  }
+
+  @Test
+  public void shouldDeleteJarsWhenClosed() {
+    final File jar = this.testee.jarFor("foo.jar");
+    this.testee.close();
+    assertFalse(jar.exists());
+  }
+
+}
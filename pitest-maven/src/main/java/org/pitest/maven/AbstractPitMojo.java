@@ -267,6 +267,35 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(property = "mutationUnitSize")
   private int                         mutationUnitSize;
 
+  /**
+   * Maximum number of analysis units a single minion JVM will process before
+   * it is replaced.
+   *
+   * Values greater than 1 avoid repeated JVM startup and test framework
+   * initialisation, at the cost of weaker isolation between units.
+   */
+  @Parameter(property = "maxMinionBatches", defaultValue = "1")
+  private int                         maxMinionBatches;
+
+  /**
+   * Weave the mutants of each class into the class when it is first loaded,
+   * and switch between them with a flag instead of redefining the class for
+   * each mutant.
+   *
+   * Mutants that cannot be woven are still installed by redefinition.
+   */
+  @Parameter(property = "mutantSchemata", defaultValue = "false")
+  private boolean                     mutantSchemata;
+
+  /**
+   * Archive the classes loaded during coverage analysis and share the
+   * archive between minions, so that each starts faster.
+   *
+   * Ignored by JVMs that do not support application class data sharing.
+   */
+  @Parameter(property = "classDataSharing", defaultValue = "false")
+  private boolean                     classDataSharing;
+
   /**
    * Export line coverage data
    */
@@ -708,6 +737,18 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.mutationUnitSize;
   }
 
+  public int getMaxMinionBatches() {
+    return this.maxMinionBatches;
+  }
+
+  public boolean isMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  public boolean isClassDataSharing() {
+    return this.classDataSharing;
+  }
+
   public boolean isTimestampedReports() {
     return this.timestampedReports;
   }
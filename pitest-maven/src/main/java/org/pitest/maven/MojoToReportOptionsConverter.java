@@ -140,6 +140,9 @@ public class MojoToReportOptionsConverter {
     data.setFullMutationMatrix(this.mojo.isFullMutationMatrix());
 
     data.setMutationUnitSize(this.mojo.getMutationUnitSize());
+    data.setMaxMinionBatches(this.mojo.getMaxMinionBatches());
+    data.setMutantSchemata(this.mojo.isMutantSchemata());
+    data.setClassDataSharing(this.mojo.isClassDataSharing());
     data.setShouldCreateTimestampedReports(this.mojo.isTimestampedReports());
     data.setDetectInlinedCode(this.mojo.isDetectInlinedCode());
 
@@ -318,6 +318,21 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
         actual.getMutationUnitSize());
   }
 
+  public void testParsesMaxMinionBatches() {
+    final ReportOptions actual = parseConfig("<maxMinionBatches>20</maxMinionBatches>");
+    assertEquals(20, actual.getMaxMinionBatches());
+  }
+
+  public void testParsesMutantSchemata() {
+    final ReportOptions actual = parseConfig("<mutantSchemata>true</mutantSchemata>");
+    assertEquals(true, actual.useMutantSchemata());
+  }
+
+  public void testParsesClassDataSharing() {
+    final ReportOptions actual = parseConfig("<classDataSharing>true</classDataSharing>");
+    assertEquals(true, actual.useClassDataSharing());
+  }
+
   public void testParsesTimeStampedReports() {
     final ReportOptions actual = parseConfig("<timestampedReports>false</timestampedReports>");
     assertEquals(false, actual.shouldCreateTimeStampedReports());
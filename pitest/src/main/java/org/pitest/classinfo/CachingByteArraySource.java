@@ -1,43 +1,118 @@
 package org.pitest.classinfo;
 
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
-
 import java.util.Optional;
+import java.util.function.ToLongFunction;
 
+/**
+ * Caches the bytes returned by another source, discarding the least recently
+ * used classes when the cache grows beyond its limit. The limit is either a
+ * number of classes, or a number of bytes.
+ *
+ * Safe for use by several threads. Bytes are fetched from the child outside
+ * the lock, so two threads asking for the same uncached class may both fetch
+ * it.
+ */
 public class CachingByteArraySource implements ClassByteArraySource {
 
-  private final ClassByteArraySource child;
-  private final Map<String,Optional<byte[]>> cache;
+  // rough allowance for the map entry, name and optional of each cached class
+  private static final long ENTRY_OVERHEAD = 128;
+
+  private final ClassByteArraySource             child;
+  private final long                             maxWeight;
+  private final ToLongFunction<Optional<byte[]>> weigher;
+  private final Map<String, Optional<byte[]>>    cache = new LinkedHashMap<>(
+      16, 0.75f, true);
+
+  private long weight;
+  private long hits;
+  private long misses;
+  private long evictions;
 
+  /**
+   * @param maxSize
+   *          maximum number of classes to hold
+   */
   public CachingByteArraySource(ClassByteArraySource child, int maxSize) {
+    this(child, maxSize, bytes -> 1);
+  }
+
+  private CachingByteArraySource(ClassByteArraySource child, long maxWeight,
+      ToLongFunction<Optional<byte[]>> weigher) {
     this.child = child;
-    this.cache = new FixedSizeHashMap<>(maxSize);
+    this.maxWeight = maxWeight;
+    this.weigher = weigher;
+  }
+
+  /**
+   * Creates a cache holding classes up to a total of roughly maxBytes.
+   */
+  public static CachingByteArraySource boundedBySize(ClassByteArraySource child,
+      long maxBytes) {
+    return new CachingByteArraySource(child, maxBytes,
+        bytes -> ENTRY_OVERHEAD + bytes.map(b -> b.length).orElse(0));
   }
 
   @Override
   public Optional<byte[]> getBytes(String clazz) {
-    Optional<byte[]> maybeBytes = this.cache.get(clazz);
-    if (maybeBytes != null) {
-      return maybeBytes;
+    synchronized (this) {
+      final Optional<byte[]> maybeBytes = this.cache.get(clazz);
+      if (maybeBytes != null) {
+        this.hits++;
+        return maybeBytes;
+      }
+      this.misses++;
     }
 
-    maybeBytes  = this.child.getBytes(clazz);
-    this.cache.put(clazz, maybeBytes);
+    final Optional<byte[]> maybeBytes = this.child.getBytes(clazz);
+    store(clazz, maybeBytes);
     return maybeBytes;
+  }
 
+  public synchronized long hits() {
+    return this.hits;
   }
 
-}
+  public synchronized long misses() {
+    return this.misses;
+  }
 
-class FixedSizeHashMap<K,V> extends LinkedHashMap<K,V> {
-  private final int maxsize;
-  FixedSizeHashMap(int maxsize) {
-    this.maxsize = maxsize;
+  public synchronized long evictions() {
+    return this.evictions;
   }
-  private static final long serialVersionUID = 2648931151905594122L;
+
+  /**
+   * Current size of the cache, in the units of its limit.
+   */
+  public synchronized long weight() {
+    return this.weight;
+  }
+
   @Override
-  protected boolean removeEldestEntry(Map.Entry <K,V> eldest) {
-    return size() > this.maxsize;
-}
+  public synchronized String toString() {
+    return "CachingByteArraySource [classes=" + this.cache.size() + ", weight="
+        + this.weight + "/" + this.maxWeight + ", hits=" + this.hits
+        + ", misses=" + this.misses + ", evictions=" + this.evictions + "]";
+  }
+
+  private synchronized void store(String clazz, Optional<byte[]> maybeBytes) {
+    final Optional<byte[]> previous = this.cache.put(clazz, maybeBytes);
+    if (previous != null) {
+      this.weight -= this.weigher.applyAsLong(previous);
+    }
+    this.weight += this.weigher.applyAsLong(maybeBytes);
+
+    final Iterator<Map.Entry<String, Optional<byte[]>>> it = this.cache
+        .entrySet().iterator();
+    // the class just stored is kept, even if larger than the limit
+    while ((this.weight > this.maxWeight) && (this.cache.size() > 1)) {
+      final Map.Entry<String, Optional<byte[]>> eldest = it.next();
+      this.weight -= this.weigher.applyAsLong(eldest.getValue());
+      it.remove();
+      this.evictions++;
+    }
+  }
+
 }
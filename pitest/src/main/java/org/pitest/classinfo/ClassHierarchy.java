@@ -0,0 +1,279 @@
+package org.pitest.classinfo;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.pitest.bytecode.ASMVersion;
+
+/**
+ * The super class and interfaces of a set of classes, which is all the
+ * {@link ComputeClassWriter} needs to know about a class to compute frames.
+ *
+ * The parent process describes the classes a minion will mutate, and every
+ * class they refer to, so that minions need not read library classes from the
+ * classpath just to find their ancestors.
+ */
+public class ClassHierarchy implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final Map<String, TypeInfo> types = new ConcurrentHashMap<>();
+
+  /**
+   * Describes the given classes, each class they refer to, and the ancestors
+   * of those classes. Classes that cannot be found are left out.
+   */
+  public static ClassHierarchy forClasses(final ClassByteArraySource source,
+      final Collection<ClassName> classes) {
+    final ClassHierarchy hierarchy = new ClassHierarchy();
+    for (final ClassName each : classes) {
+      source.getBytes(each.asJavaName())
+          .ifPresent(bytes -> hierarchy.describe(source, referencedTypes(bytes)));
+    }
+    return hierarchy;
+  }
+
+  /**
+   * Returns a source that also answers questions about the hierarchy of the
+   * classes described here, without reading their bytes.
+   */
+  public ClassByteArraySource backing(final ClassByteArraySource bytes) {
+    return new HierarchySource(this, bytes);
+  }
+
+  public Optional<TypeInfo> typeInfo(final String type) {
+    return Optional.ofNullable(this.types.get(type));
+  }
+
+  public void addAll(final ClassHierarchy other) {
+    this.types.putAll(other.types);
+  }
+
+  public int size() {
+    return this.types.size();
+  }
+
+  static Optional<TypeInfo> knownTo(final ClassByteArraySource source,
+      final String type) {
+    if (source instanceof HierarchySource) {
+      return ((HierarchySource) source).hierarchy.typeInfo(type);
+    }
+    return Optional.empty();
+  }
+
+  private void describe(final ClassByteArraySource source,
+      final Collection<String> roots) {
+    final Deque<String> toVisit = new ArrayDeque<>(roots);
+    while (!toVisit.isEmpty()) {
+      final String type = toVisit.pop();
+      if (this.types.containsKey(type)) {
+        continue;
+      }
+      final Optional<byte[]> bytes = source.getBytes(type);
+      if (!bytes.isPresent()) {
+        continue;
+      }
+      final TypeInfo info = TypeInfo.fromBytes(bytes.get());
+      this.types.put(type, info);
+      if (info.getSuperName() != null) {
+        toVisit.push(info.getSuperName());
+      }
+      for (final String each : info.getInterfaces()) {
+        toVisit.push(each);
+      }
+    }
+  }
+
+  private static Set<String> referencedTypes(final byte[] bytes) {
+    final ReferencedTypes visitor = new ReferencedTypes();
+    new ClassReader(bytes).accept(visitor,
+        ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+    return visitor.types;
+  }
+
+  /**
+   * The parts of a class that describe its place in the hierarchy.
+   */
+  public static final class TypeInfo implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String      superName;
+    private final String[]    interfaces;
+    private final boolean     isInterface;
+
+    TypeInfo(final String superName, final String[] interfaces,
+        final boolean isInterface) {
+      this.superName = superName;
+      this.interfaces = interfaces;
+      this.isInterface = isInterface;
+    }
+
+    static TypeInfo fromBytes(final byte[] bytes) {
+      final ClassReader reader = new ClassReader(bytes);
+      return new TypeInfo(reader.getSuperName(), reader.getInterfaces(),
+          (reader.getAccess() & Opcodes.ACC_INTERFACE) != 0);
+    }
+
+    /**
+     * @return internal name of the super class, or null for Object
+     */
+    public String getSuperName() {
+      return this.superName;
+    }
+
+    public String[] getInterfaces() {
+      return this.interfaces.clone();
+    }
+
+    public boolean isInterface() {
+      return this.isInterface;
+    }
+
+  }
+
+  private static class HierarchySource implements ClassByteArraySource {
+
+    private final ClassHierarchy       hierarchy;
+    private final ClassByteArraySource child;
+
+    HierarchySource(final ClassHierarchy hierarchy,
+        final ClassByteArraySource child) {
+      this.hierarchy = hierarchy;
+      this.child = child;
+    }
+
+    @Override
+    public Optional<byte[]> getBytes(final String clazz) {
+      return this.child.getBytes(clazz);
+    }
+
+  }
+
+  /**
+   * Collects the classes a class refers to in ways that may place them in a
+   * frame, which is where the class writer needs to merge types.
+   */
+  private static class ReferencedTypes extends ClassVisitor {
+
+    private final Set<String> types = new LinkedHashSet<>();
+
+    ReferencedTypes() {
+      super(ASMVersion.ASM_VERSION);
+    }
+
+    @Override
+    public void visit(final int version, final int access, final String name,
+        final String signature, final String superName,
+        final String[] interfaces) {
+      this.types.add(name);
+    }
+
+    @Override
+    public FieldVisitor visitField(final int access, final String name,
+        final String desc, final String signature, final Object value) {
+      addDescriptor(Type.getType(desc));
+      return null;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(final int access, final String name,
+        final String desc, final String signature, final String[] exceptions) {
+      addDescriptor(Type.getMethodType(desc));
+      return new MethodVisitor(ASMVersion.ASM_VERSION) {
+
+        @Override
+        public void visitTypeInsn(final int opcode, final String type) {
+          addInternalName(type);
+        }
+
+        @Override
+        public void visitFieldInsn(final int opcode, final String owner,
+            final String name, final String desc) {
+          addInternalName(owner);
+          addDescriptor(Type.getType(desc));
+        }
+
+        @Override
+        public void visitMethodInsn(final int opcode, final String owner,
+            final String name, final String desc, final boolean itf) {
+          addInternalName(owner);
+          addDescriptor(Type.getMethodType(desc));
+        }
+
+        @Override
+        public void visitInvokeDynamicInsn(final String name,
+            final String desc, final Handle bsm, final Object... bsmArgs) {
+          addDescriptor(Type.getMethodType(desc));
+        }
+
+        @Override
+        public void visitLdcInsn(final Object value) {
+          if (value instanceof Type) {
+            addDescriptor((Type) value);
+          }
+        }
+
+        @Override
+        public void visitMultiANewArrayInsn(final String desc,
+            final int dims) {
+          addDescriptor(Type.getType(desc));
+        }
+
+        @Override
+        public void visitTryCatchBlock(final Label start, final Label end,
+            final Label handler, final String type) {
+          if (type != null) {
+            addInternalName(type);
+          }
+        }
+
+      };
+    }
+
+    private void addInternalName(final String name) {
+      // array types are given as descriptors
+      if (name.startsWith("[")) {
+        addDescriptor(Type.getType(name));
+      } else {
+        this.types.add(name);
+      }
+    }
+
+    private void addDescriptor(final Type type) {
+      switch (type.getSort()) {
+      case Type.OBJECT:
+        this.types.add(type.getInternalName());
+        break;
+      case Type.ARRAY:
+        addDescriptor(type.getElementType());
+        break;
+      case Type.METHOD:
+        for (final Type each : type.getArgumentTypes()) {
+          addDescriptor(each);
+        }
+        addDescriptor(type.getReturnType());
+        break;
+      default:
+        break;
+      }
+    }
+
+  }
+
+}
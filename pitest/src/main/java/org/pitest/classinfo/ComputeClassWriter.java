@@ -35,8 +35,9 @@ import java.util.Map;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
-import org.objectweb.asm.Opcodes;
 import java.util.Optional;
+
+import org.pitest.classinfo.ClassHierarchy.TypeInfo;
 import org.pitest.util.PitError;
 
 /**
@@ -46,7 +47,8 @@ import org.pitest.util.PitError;
  * @author Eric Bruneton
  *
  *         Modified to match behaviour of default ClassWriter and cache already
- *         calculated values
+ *         calculated values. Classes described by a {@link ClassHierarchy}
+ *         backing the byte source are not read.
  */
 public class ComputeClassWriter extends ClassWriter {
 
@@ -60,6 +62,19 @@ public class ComputeClassWriter extends ClassWriter {
     this.cache = cache;
   }
 
+  /**
+   * Creates a writer that copies the constant pool of the given reader, so
+   * that methods passed straight from the reader are copied without being
+   * rewritten.
+   */
+  public ComputeClassWriter(final ClassByteArraySource bytes,
+      final Map<String, String> cache, final ClassReader reader,
+      final int flags) {
+    super(reader, flags);
+    this.bytes = bytes;
+    this.cache = cache;
+  }
+
   @Override
   protected String getCommonSuperClass(final String type1, final String type2) {
     final String key = type1 + "!_!" + type2;
@@ -68,8 +83,8 @@ public class ComputeClassWriter extends ClassWriter {
       return previous;
     }
 
-    final ClassReader info1 = typeInfo(type1);
-    final ClassReader info2 = typeInfo(type2);
+    final TypeInfo info1 = typeInfo(type1);
+    final TypeInfo info2 = typeInfo(type2);
 
     final String result = getCommonSuperClass(type1, info1, type2, info2);
     this.cache.put(key, result);
@@ -78,12 +93,12 @@ public class ComputeClassWriter extends ClassWriter {
   }
 
   private String getCommonSuperClass(final String type1,
-      final ClassReader info1, final String type2, final ClassReader info2) {
-    if (isInterface(info1)) {
+      final TypeInfo info1, final String type2, final TypeInfo info2) {
+    if (info1.isInterface()) {
       if (typeImplements(type2, info2, type1)) {
         return type1;
       } else {
-        if (isInterface(info2)) {
+        if (info2.isInterface()) {
           if (typeImplements(type1, info1, type2)) {
             return type2;
           } else {
@@ -119,24 +134,20 @@ public class ComputeClassWriter extends ClassWriter {
 
   }
 
-  private static boolean isInterface(final ClassReader info1) {
-    return (info1.getAccess() & Opcodes.ACC_INTERFACE) != 0;
-  }
-
   /**
    * Returns the internal names of the ancestor classes of the given type.
    *
    * @param type
    *          the internal name of a class or interface.
    * @param info
-   *          the ClassReader corresponding to 'type'.
+   *          the TypeInfo corresponding to 'type'.
    * @return a StringBuilder containing the ancestor classes of 'type',
    *         separated by ';'. The returned string has the following format:
    *         ";type1;type2 ... ;typeN", where type1 is 'type', and typeN is a
    *         direct subclass of Object. If 'type' is Object, the returned string
    *         is empty.
    */
-  private StringBuilder typeAncestors(String type, ClassReader info) {
+  private StringBuilder typeAncestors(String type, TypeInfo info) {
     final StringBuilder b = new StringBuilder();
     while (!"java/lang/Object".equals(type)) {
       b.append(';').append(type);
@@ -152,12 +163,12 @@ public class ComputeClassWriter extends ClassWriter {
    * @param type
    *          the internal name of a class or interface.
    * @param info
-   *          the ClassReader corresponding to 'type'.
+   *          the TypeInfo corresponding to 'type'.
    * @param itf
    *          the internal name of a interface.
    * @return true if 'type' implements directly or indirectly 'itf'
    */
-  private boolean typeImplements(String type, ClassReader info, final String itf) {
+  private boolean typeImplements(String type, TypeInfo info, final String itf) {
     final String cleanItf = itf.replace(".", "/");
     while (!"java/lang/Object".equals(type)) {
       final String[] itfs = info.getInterfaces();
@@ -178,17 +189,21 @@ public class ComputeClassWriter extends ClassWriter {
   }
 
   /**
-   * Returns a ClassReader corresponding to the given class or interface.
+   * Returns a TypeInfo corresponding to the given class or interface.
    *
    * @param type
    *          the internal name of a class or interface.
-   * @return the ClassReader corresponding to 'type'.
+   * @return the TypeInfo corresponding to 'type'.
    */
-  private ClassReader typeInfo(final String type) {
+  private TypeInfo typeInfo(final String type) {
+    final Optional<TypeInfo> known = ClassHierarchy.knownTo(this.bytes, type);
+    if (known.isPresent()) {
+      return known.get();
+    }
     final Optional<byte[]> maybeBytes = this.bytes.getBytes(type);
     if (!maybeBytes.isPresent()) {
       throw new PitError("Could not find class defintiion for " + type);
     }
-    return new ClassReader(maybeBytes.get());
+    return TypeInfo.fromBytes(maybeBytes.get());
   }
 }
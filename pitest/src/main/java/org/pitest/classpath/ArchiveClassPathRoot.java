@@ -14,6 +14,8 @@
  */
 package org.pitest.classpath;
 
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -31,85 +33,158 @@ import org.pitest.util.StreamUtil;
 import org.pitest.util.Unchecked;
 
 /**
- * ClassPathRoot wrapping a jar or zip file
+ * ClassPathRoot for a jar or zip. The archive is opened on first use and held
+ * open between lookups, so that its central directory is read once, until the
+ * root is closed.
+ *
+ * Roots created by a {@link ClassPath} share a limit on the archives held
+ * open. The least recently used are closed once more than
+ * {@value #MAX_OPEN_ARCHIVES} are open, and reopened if used again.
  */
-public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
+public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot, Closeable {
+
+  static final int MAX_OPEN_ARCHIVES = 64;
+
+  private final File   file;
+  private final OpenArchives openArchives;
 
-  private final File file;
+  private ZipFile      zip;
+  private List<String> classNames;
 
   public ArchiveClassPathRoot(final File file) {
+    this(file, new OpenArchives(MAX_OPEN_ARCHIVES));
+  }
+
+  ArchiveClassPathRoot(final File file, final OpenArchives openArchives) {
     this.file = file;
+    this.openArchives = openArchives;
   }
 
   @Override
   public InputStream getData(final String name) throws IOException {
-    try (ZipFile zip = getRoot()) {
-      final ZipEntry entry = zip.getEntry(name.replace('.', '/') + ".class");
-      if (entry == null) {
-        return null;
-      }
-      return StreamUtil.copyStream(zip.getInputStream(entry));
+    final byte[] bytes;
+    synchronized (this) {
+      final ZipFile archive = archive();
+      final ZipEntry entry = archive.getEntry(name.replace('.', '/') + ".class");
+      bytes = entry != null ? read(archive, entry) : null;
     }
+    this.openArchives.used(this);
+    if (bytes == null) {
+      return null;
+    }
+    return new ByteArrayInputStream(bytes);
   }
 
   @Override
   public URL getResource(final String name) throws MalformedURLException {
-    final ZipFile zip = getRoot();
-    try {
-      final ZipEntry entry = zip.getEntry(name);
+    final URL url;
+    synchronized (this) {
+      final ZipFile archive = archive();
+      final ZipEntry entry = archive.getEntry(name);
       if (entry != null) {
-        return new URL("jar:file:" + zip.getName() + "!/" + entry.getName());
+        url = new URL("jar:file:" + archive.getName() + "!/" + entry.getName());
       } else {
-        return null;
+        url = null;
       }
-    } finally {
-      closeQuietly(zip);
     }
+    this.openArchives.used(this);
+    return url;
+  }
 
+  @Override
+  public String toString() {
+    return "ArchiveClassPathRoot [file=" + this.file.getName() + "]";
   }
 
-  private static void closeQuietly(final ZipFile zip) {
-    try {
-      zip.close();
-    } catch (final IOException e) {
-      throw Unchecked.translateCheckedException(e);
+  @Override
+  public Collection<String> classNames() {
+    final List<String> names;
+    synchronized (this) {
+      if (this.classNames == null) {
+        this.classNames = scanClassNames(archive());
+      }
+      names = new ArrayList<>(this.classNames);
     }
+    this.openArchives.used(this);
+    return names;
   }
 
   @Override
-  public String toString() {
-    return "ArchiveClassPathRoot [file=" + this.file.getName() + "]";
+  public Optional<String> cacheLocation() {
+    return Optional.ofNullable(this.file.getAbsolutePath());
   }
 
+  /**
+   * Releases the archive's file handle. The root remains usable, and will
+   * reopen the archive if needed.
+   */
   @Override
-  public Collection<String> classNames() {
-    final List<String> names = new ArrayList<>();
-    final ZipFile root = getRoot();
-    try {
-      final Enumeration<? extends ZipEntry> entries = root.entries();
-      while (entries.hasMoreElements()) {
-        final ZipEntry entry = entries.nextElement();
-        if (!entry.isDirectory() && entry.getName().endsWith(".class")) {
-          names.add(stringToClassName(entry.getName()));
+  public void close() {
+    release();
+    this.openArchives.forget(this);
+  }
+
+  synchronized boolean isOpen() {
+    return this.zip != null;
+  }
+
+  synchronized void release() {
+    if (this.zip != null) {
+      try {
+        this.zip.close();
+      } catch (final IOException e) {
+        throw Unchecked.translateCheckedException(e);
+      } finally {
+        this.zip = null;
+      }
+    }
+  }
+
+  private ZipFile archive() {
+    if (this.zip == null) {
+      this.zip = getRoot();
+    }
+    return this.zip;
+  }
+
+  private static byte[] read(final ZipFile archive, final ZipEntry entry)
+      throws IOException {
+    try (InputStream is = archive.getInputStream(entry)) {
+      final long size = entry.getSize();
+      if (size < 0 || size > Integer.MAX_VALUE) {
+        return StreamUtil.streamToByteArray(is);
+      }
+      final byte[] bytes = new byte[(int) size];
+      int read = 0;
+      while (read < bytes.length) {
+        final int count = is.read(bytes, read, bytes.length - read);
+        if (count < 0) {
+          throw new IOException("Unexpected end of " + entry.getName()
+              + " in " + archive.getName());
         }
+        read = read + count;
       }
-      return names;
-    } finally {
-      closeQuietly(root);
+      return bytes;
     }
+  }
 
+  private static List<String> scanClassNames(final ZipFile archive) {
+    final List<String> names = new ArrayList<>();
+    final Enumeration<? extends ZipEntry> entries = archive.entries();
+    while (entries.hasMoreElements()) {
+      final ZipEntry entry = entries.nextElement();
+      if (!entry.isDirectory() && entry.getName().endsWith(".class")) {
+        names.add(stringToClassName(entry.getName()));
+      }
+    }
+    return names;
   }
 
-  private String stringToClassName(final String name) {
+  private static String stringToClassName(final String name) {
     return name.substring(0, (name.length() - ".class".length())).replace('/',
         '.');
   }
 
-  @Override
-  public Optional<String> cacheLocation() {
-    return Optional.ofNullable(this.file.getAbsolutePath());
-  }
-
   private ZipFile getRoot() {
     try {
       return new ZipFile(this.file);
@@ -21,6 +21,7 @@ import org.pitest.util.ManifestUtils;
 import org.pitest.util.PitError;
 import org.pitest.util.StreamUtil;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -37,11 +38,12 @@ import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.zip.ZipException;
 
-public class ClassPath {
+public class ClassPath implements Closeable {
 
   private static final Logger         LOG = Log.getLogger();
 
   private final CompoundClassPathRoot root;
+  private final OpenArchives          openArchives;
 
   public ClassPath() {
     this(ClassPath.getClassPathElementsAsFiles());
@@ -52,11 +54,31 @@ public class ClassPath {
   }
 
   public ClassPath(final Collection<File> files) {
-    this(createRoots(FCollection.filter(files, exists())));
+    this(files, ClassPathIndex.disabled());
+  }
+
+  /**
+   * Creates a classpath whose roots list their classes from the given index
+   * when unchanged since it was written.
+   */
+  public ClassPath(final Collection<File> files, final ClassPathIndex index) {
+    this(files, index, new OpenArchives(ArchiveClassPathRoot.MAX_OPEN_ARCHIVES));
+  }
+
+  private ClassPath(final Collection<File> files, final ClassPathIndex index,
+      final OpenArchives openArchives) {
+    this(createRoots(FCollection.filter(files, exists()), index, openArchives),
+        openArchives);
   }
 
   ClassPath(List<ClassPathRoot> roots) {
+    this(roots, new OpenArchives(ArchiveClassPathRoot.MAX_OPEN_ARCHIVES));
+  }
+
+  private ClassPath(final List<ClassPathRoot> roots,
+      final OpenArchives openArchives) {
     this.root = new CompoundClassPathRoot(roots);
+    this.openArchives = openArchives;
   }
 
   public Collection<String> classNames() {
@@ -64,7 +86,8 @@ public class ClassPath {
   }
 
   // fixme should not be determining type here
-  private static List<ClassPathRoot> createRoots(final Collection<File> files) {
+  private static List<ClassPathRoot> createRoots(final Collection<File> files,
+      final ClassPathIndex index, final OpenArchives openArchives) {
     File lastFile = null;
     try {
       final List<ClassPathRoot> rs = new ArrayList<>();
@@ -72,9 +95,9 @@ public class ClassPath {
       for (final File f : files) {
         lastFile = f;
         if (f.isDirectory()) {
-          rs.add(new DirectoryClassPathRoot(f));
+          rs.add(index.index(f, new DirectoryClassPathRoot(f)));
         } else {
-          handleArchive(rs, f);
+          handleArchive(rs, f, index, openArchives);
         }
       }
       return rs;
@@ -83,13 +106,14 @@ public class ClassPath {
     }
   }
 
-  private static void handleArchive(final List<ClassPathRoot> rs, final File f)
+  private static void handleArchive(final List<ClassPathRoot> rs, final File f,
+      final ClassPathIndex index, final OpenArchives openArchives)
       throws IOException {
     try {
       if (!f.canRead()) {
         throw new IOException("Can't read the file " + f);
       }
-      rs.add(new ArchiveClassPathRoot(f));
+      rs.add(index.index(f, new ArchiveClassPathRoot(f, openArchives)));
     } catch (final ZipException ex) {
       LOG.warning("Can't open the archive " + f);
     }
@@ -147,6 +171,15 @@ public class ClassPath {
     return this.root.cacheLocation().get();
   }
 
+  /**
+   * Closes any archives this classpath opened. The classpath remains usable,
+   * and will reopen archives if needed.
+   */
+  @Override
+  public void close() {
+    this.openArchives.closeAll();
+  }
+
   public ClassPath getComponent(final Predicate<ClassPathRoot> predicate) {
     return new ClassPath(FCollection.filter(this.root, predicate).toArray(
         new ClassPathRoot[0]));
@@ -0,0 +1,277 @@
+package org.pitest.classpath;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.util.Log;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Remembers the class names found in each classpath root between runs, so
+ * that roots which have not changed need not be scanned again.
+ *
+ * An archive is unchanged if its size and modification time are the same. A
+ * directory is unchanged if it, and every directory below it, has the same
+ * modification time, as adding, removing or renaming a file updates the
+ * modification time of the directory containing it.
+ */
+public class ClassPathIndex {
+
+  private static final Logger LOG     = Log.getLogger();
+
+  private static final int    VERSION = 1;
+
+  private final File               input;
+  private final File               output;
+
+  private final Map<String, Entry> previous = new HashMap<>();
+  private final Map<String, Entry> used     = new ConcurrentHashMap<>();
+
+  /**
+   * @param input
+   *          file to read the index from, or null
+   * @param output
+   *          file to write the index to, or null
+   */
+  public ClassPathIndex(final File input, final File output) {
+    this.input = input;
+    this.output = output;
+  }
+
+  public static ClassPathIndex disabled() {
+    return new ClassPathIndex(null, null);
+  }
+
+  /**
+   * Creates an index stored alongside the history files used for incremental
+   * analysis. Either location may be null.
+   */
+  public static ClassPathIndex forHistory(final File historyInput,
+      final File historyOutput) {
+    return new ClassPathIndex(siblingOf(historyInput), siblingOf(historyOutput));
+  }
+
+  private static File siblingOf(final File historyFile) {
+    if (historyFile == null) {
+      return null;
+    }
+    return new File(historyFile.getPath() + ".classpath");
+  }
+
+  public boolean isEnabled() {
+    return (this.input != null) || (this.output != null);
+  }
+
+  public void load() {
+    if ((this.input == null) || !this.input.exists()
+        || (this.input.length() == 0)) {
+      return;
+    }
+    try (FileInputStream fis = new FileInputStream(this.input)) {
+      read(new SafeDataInputStream(new BufferedInputStream(fis)));
+    } catch (final IOException | RuntimeException e) {
+      LOG.log(Level.WARNING, "Could not read classpath index " + this.input
+          + ". The classpath will be scanned.", e);
+      this.previous.clear();
+    }
+  }
+
+  /**
+   * Writes the entries for the roots used in this run.
+   */
+  public void store() {
+    if (this.output == null) {
+      return;
+    }
+    try (FileOutputStream fos = new FileOutputStream(this.output)) {
+      final SafeDataOutputStream dos = new SafeDataOutputStream(
+          new BufferedOutputStream(fos));
+      write(dos, new TreeMap<>(this.used));
+      dos.flush();
+    } catch (final IOException | RuntimeException e) {
+      LOG.log(Level.WARNING, "Could not write classpath index " + this.output,
+          e);
+    }
+  }
+
+  /**
+   * Wraps a root so that its class names are served from the index while the
+   * file or directory it reads from is unchanged.
+   */
+  ClassPathRoot index(final File location, final ClassPathRoot root) {
+    if (!isEnabled()) {
+      return root;
+    }
+    return new IndexedRoot(this, location, root);
+  }
+
+  Collection<String> classNames(final File location, final ClassPathRoot root) {
+    final String key = location.getAbsolutePath();
+    final Entry previousEntry = this.previous.get(key);
+    if ((previousEntry != null) && previousEntry.isCurrent()) {
+      this.used.put(key, previousEntry);
+      return new ArrayList<>(previousEntry.names);
+    }
+
+    // stamped before scanning, so a change made during the scan is seen by
+    // the next run
+    final List<Stamp> stamps = stamp(location);
+    final List<String> names = new ArrayList<>(root.classNames());
+    this.used.put(key, new Entry(stamps, names));
+    return names;
+  }
+
+  private static List<Stamp> stamp(final File location) {
+    final List<Stamp> stamps = new ArrayList<>();
+    if (location.isDirectory()) {
+      stampDirectories(location, stamps);
+    } else {
+      stamps.add(new Stamp(location.getAbsolutePath(), location.length(),
+          location.lastModified()));
+    }
+    return stamps;
+  }
+
+  private static void stampDirectories(final File dir, final List<Stamp> stamps) {
+    stamps.add(new Stamp(dir.getAbsolutePath(), -1, dir.lastModified()));
+    final File[] children = dir.listFiles(File::isDirectory);
+    if (children != null) {
+      for (final File each : children) {
+        stampDirectories(each, stamps);
+      }
+    }
+  }
+
+  private void read(final SafeDataInputStream dis) {
+    if (dis.readInt() != VERSION) {
+      return;
+    }
+    final int count = dis.readInt();
+    for (int i = 0; i != count; i++) {
+      final String key = dis.readString();
+      final int stampCount = dis.readInt();
+      final List<Stamp> stamps = new ArrayList<>(stampCount);
+      for (int j = 0; j != stampCount; j++) {
+        stamps.add(new Stamp(dis.readString(), dis.readLong(), dis.readLong()));
+      }
+      final int nameCount = dis.readInt();
+      final List<String> names = new ArrayList<>(nameCount);
+      for (int j = 0; j != nameCount; j++) {
+        names.add(dis.readString());
+      }
+      this.previous.put(key, new Entry(stamps, names));
+    }
+  }
+
+  private static void write(final SafeDataOutputStream dos,
+      final Map<String, Entry> entries) {
+    dos.writeInt(VERSION);
+    dos.writeInt(entries.size());
+    for (final Map.Entry<String, Entry> each : entries.entrySet()) {
+      dos.writeString(each.getKey());
+      dos.writeInt(each.getValue().stamps.size());
+      for (final Stamp stamp : each.getValue().stamps) {
+        dos.writeString(stamp.path);
+        dos.writeLong(stamp.length);
+        dos.writeLong(stamp.modified);
+      }
+      dos.writeInt(each.getValue().names.size());
+      for (final String name : each.getValue().names) {
+        dos.writeString(name);
+      }
+    }
+  }
+
+  private static class Entry {
+    private final List<Stamp>  stamps;
+    private final List<String> names;
+
+    Entry(final List<Stamp> stamps, final List<String> names) {
+      this.stamps = stamps;
+      this.names = names;
+    }
+
+    boolean isCurrent() {
+      return this.stamps.stream().allMatch(Stamp::isCurrent);
+    }
+  }
+
+  private static class Stamp {
+    private final String path;
+    // -1 for directories, whose length is not meaningful
+    private final long   length;
+    private final long   modified;
+
+    Stamp(final String path, final long length, final long modified) {
+      this.path = path;
+      this.length = length;
+      this.modified = modified;
+    }
+
+    boolean isCurrent() {
+      final File file = new File(this.path);
+      return (file.lastModified() == this.modified)
+          && ((this.length < 0) || (file.length() == this.length))
+          && (file.isDirectory() == (this.length < 0));
+    }
+  }
+
+}
+
+class IndexedRoot implements ClassPathRoot, IOHeavyRoot {
+
+  private final ClassPathIndex index;
+  private final File           location;
+  private final ClassPathRoot  child;
+
+  IndexedRoot(final ClassPathIndex index, final File location,
+      final ClassPathRoot child) {
+    this.index = index;
+    this.location = location;
+    this.child = child;
+  }
+
+  @Override
+  public URL getResource(final String name) throws MalformedURLException {
+    return this.child.getResource(name);
+  }
+
+  @Override
+  public InputStream getData(final String name) throws IOException {
+    return this.child.getData(name);
+  }
+
+  @Override
+  public Collection<String> classNames() {
+    return this.index.classNames(this.location, this.child);
+  }
+
+  @Override
+  public Optional<String> cacheLocation() {
+    return this.child.cacheLocation();
+  }
+
+  @Override
+  public String toString() {
+    return this.child.toString();
+  }
+
+}
@@ -9,6 +9,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.pitest.classinfo.CachingByteArraySource;
+import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassInfoSource;
 import org.pitest.classinfo.ClassName;
@@ -23,18 +25,35 @@ import org.pitest.functional.Streams;
  */
 public class CodeSource implements ClassInfoSource {
 
-  private final ProjectClassPaths   classPath;
-  private final Repository          classRepository;
+  // bytes are held for all classes read during analysis
+  private static final long          BYTE_CACHE_SIZE = 64L * 1024 * 1024;
+
+  private final ProjectClassPaths    classPath;
+  private final Repository           classRepository;
+  private final ClassByteArraySource byteSource;
 
   public CodeSource(final ProjectClassPaths classPath) {
-    this(classPath, new Repository(new ClassPathByteArraySource(
-        classPath.getClassPath())));
+    this(classPath, CachingByteArraySource.boundedBySize(
+        new ClassPathByteArraySource(classPath.getClassPath()),
+        BYTE_CACHE_SIZE));
+  }
+
+  private CodeSource(final ProjectClassPaths classPath,
+      final ClassByteArraySource byteSource) {
+    this(classPath, new Repository(byteSource), byteSource);
   }
 
   CodeSource(final ProjectClassPaths classPath,
       final Repository classRepository) {
+    this(classPath, classRepository,
+        clazz -> classRepository.querySource(ClassName.fromString(clazz)));
+  }
+
+  private CodeSource(final ProjectClassPaths classPath,
+      final Repository classRepository, final ClassByteArraySource byteSource) {
     this.classPath = classPath;
     this.classRepository = classRepository;
+    this.byteSource = byteSource;
   }
 
   public Collection<ClassInfo> getCode() {
@@ -60,6 +79,14 @@ public class CodeSource implements ClassInfoSource {
     return this.classPath.getClassPath();
   }
 
+  /**
+   * Source of bytes for classes on the classpath, cached and shared with the
+   * repository so that each class is read only once.
+   */
+  public ClassByteArraySource getByteSource() {
+    return this.byteSource;
+  }
+
   public ProjectClassPaths getProjectPaths() {
     return this.classPath;
   }
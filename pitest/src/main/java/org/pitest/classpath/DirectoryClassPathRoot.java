@@ -6,8 +6,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 
 import java.util.Optional;
@@ -59,19 +59,19 @@ public class DirectoryClassPathRoot implements ClassPathRoot, IOHeavyRoot {
 
   @Override
   public Collection<String> classNames() {
-    return classNames(this.root);
+    final List<String> classNames = new ArrayList<>();
+    addClassNames(this.root, classNames);
+    return classNames;
   }
 
-  private Collection<String> classNames(final File file) {
-    final List<String> classNames = new LinkedList<>();
+  private void addClassNames(final File file, final List<String> classNames) {
     for (final File f : file.listFiles()) {
       if (f.isDirectory()) {
-        classNames.addAll(classNames(f));
+        addClassNames(f, classNames);
       } else if (f.getName().endsWith(".class")) {
         classNames.add(fileToClassName(f));
       }
     }
-    return classNames;
   }
 
   private String fileToClassName(final File f) {
@@ -6,6 +6,8 @@ import java.lang.ref.SoftReference;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.function.Function;
 
 import org.pitest.classinfo.ClassName;
@@ -20,7 +22,7 @@ public class NameCachingRoot implements ClassPathRoot {
 
   private final ClassPathRoot child;
 
-  private SoftReference<Collection<String>> cache;
+  private volatile SoftReference<Collection<String>> cache;
 
   public NameCachingRoot(ClassPathRoot child) {
     this.child = child;
@@ -48,7 +50,9 @@ public class NameCachingRoot implements ClassPathRoot {
         return cachedNames;
       }
     }
-    final Collection<String> names = this.child.classNames();
+    // held as a set, as every call to getData checks membership
+    final Collection<String> names = Collections
+        .unmodifiableSet(new LinkedHashSet<>(this.child.classNames()));
     this.cache = new SoftReference<>(names);
     return  names;
   }
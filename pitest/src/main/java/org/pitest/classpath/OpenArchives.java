@@ -0,0 +1,53 @@
+package org.pitest.classpath;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Tracks the archives held open, closing the least recently used when there
+ * are too many.
+ */
+class OpenArchives {
+
+  private final int limit;
+  private final LinkedHashMap<ArchiveClassPathRoot, Boolean> open = new LinkedHashMap<>(
+      16, 0.75f, true);
+
+  OpenArchives(final int limit) {
+    this.limit = limit;
+  }
+
+  void used(final ArchiveClassPathRoot root) {
+    final List<ArchiveClassPathRoot> evicted = new ArrayList<>();
+    synchronized (this) {
+      this.open.put(root, Boolean.TRUE);
+      final Iterator<ArchiveClassPathRoot> it = this.open.keySet().iterator();
+      while (this.open.size() > this.limit) {
+        evicted.add(it.next());
+        it.remove();
+      }
+    }
+    // closed outside the lock, as closing waits for any read in progress
+    for (final ArchiveClassPathRoot each : evicted) {
+      each.release();
+    }
+  }
+
+  synchronized void forget(final ArchiveClassPathRoot root) {
+    this.open.remove(root);
+  }
+
+  void closeAll() {
+    final List<ArchiveClassPathRoot> roots;
+    synchronized (this) {
+      roots = new ArrayList<>(this.open.keySet());
+      this.open.clear();
+    }
+    for (final ArchiveClassPathRoot each : roots) {
+      each.release();
+    }
+  }
+
+}
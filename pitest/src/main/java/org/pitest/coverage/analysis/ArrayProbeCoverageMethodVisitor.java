@@ -51,6 +51,10 @@ import java.util.List;
  *
  *   private void bar(){
  *     byte[] localRefToProbes = $$pitCoverageProbes;
+ *     if (localRefToProbes[0] == 0) {
+ *       localRefToProbes[0] = 1;
+ *       CodeCoverageStore.markTouched(thisClassID);
+ *     }
  *     //line of code
  *     localRefToProbes[1] = 1; //assuming above line was probe 1
  *   }
@@ -58,7 +62,7 @@ import java.util.List;
  * }
  *
  * CodeCoverageStore maintains a reference to all of these $$pitCoverageProbes arrays
- * and empties them out between each test.
+ * and empties out those of the classes touched by each test.
  *
  */
 public class ArrayProbeCoverageMethodVisitor extends AbstractCoverageStrategy {
@@ -121,11 +125,21 @@ public class ArrayProbeCoverageMethodVisitor extends AbstractCoverageStrategy {
     //else do nothing
     this.mv.visitLabel(notnull);
 
-    //Make sure that we recorded that the class was hit
+    //Make sure that we recorded that the class was hit. On the first hit
+    //since the last reset also tell the store, so it only visits touched classes
+    Label alreadyHit = new Label();
+    this.mv.visitInsn(DUP);
+    this.mv.visitInsn(ICONST_0);
+    this.mv.visitInsn(BALOAD);
+    this.mv.visitJumpInsn(Opcodes.IFNE, alreadyHit);
     this.mv.visitInsn(DUP);
     this.mv.visitInsn(ICONST_0);
     this.mv.visitInsn(ICONST_1);
     this.mv.visitInsn(BASTORE);
+    pushConstant(this.classId);
+    this.mv.visitMethodInsn(Opcodes.INVOKESTATIC, CodeCoverageStore.CLASS_NAME,
+        "markTouched", "(I)V", false);
+    this.mv.visitLabel(alreadyHit);
     this.mv.visitVarInsn(ASTORE, this.probeHitArrayLocal);
   }
 
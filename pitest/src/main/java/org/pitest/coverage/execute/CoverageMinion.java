@@ -24,6 +24,7 @@ import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.PitHelpError;
 import org.pitest.mutationtest.config.ClientPluginServices;
 import org.pitest.mutationtest.config.MinionSettings;
+import org.pitest.mutationtest.execute.WireFormat;
 import org.pitest.mutationtest.mocksupport.BendJavassistToMyWillTransformer;
 import org.pitest.mutationtest.mocksupport.JavassistInputStreamInterceptorAdapater;
 import org.pitest.testapi.Configuration;
@@ -73,7 +74,7 @@ public class CoverageMinion {
       Log.setVerbose(paramsFromParent.isVerbose());
 
       invokeQueue = new CoveragePipe(new BufferedOutputStream(
-          s.getOutputStream()));
+          s.getOutputStream()), WireFormat.negotiate(paramsFromParent.getWireVersion()));
 
       CodeCoverageStore.init(invokeQueue);
 
@@ -23,6 +23,7 @@ import java.util.function.Predicate;
 
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.execute.WireFormat;
 import org.pitest.util.Glob;
 
 public class CoverageOptions implements Serializable {
@@ -34,6 +35,7 @@ public class CoverageOptions implements Serializable {
   private final boolean           verbose;
   private final TestPluginArguments pitConfig;
   private final int               maxDependencyDistance;
+  private final int               wireVersion;
 
   public CoverageOptions(final Collection<String> include, final Collection<String> exclude,
       final TestPluginArguments pitConfig, final boolean verbose,
@@ -44,6 +46,7 @@ public class CoverageOptions implements Serializable {
     this.verbose = verbose;
     this.pitConfig = pitConfig;
     this.maxDependencyDistance = maxDependencyDistance;
+    this.wireVersion = WireFormat.latest().version();
   }
 
   public Predicate<String> getFilter() {
@@ -52,6 +55,14 @@ public class CoverageOptions implements Serializable {
         Prelude.not(commonClasses()));
   }
 
+  public Collection<String> getInclude() {
+    return this.include;
+  }
+
+  public Collection<String> getExclude() {
+    return this.exclude;
+  }
+
   public boolean isVerbose() {
     return this.verbose;
   }
@@ -64,6 +75,10 @@ public class CoverageOptions implements Serializable {
     return this.maxDependencyDistance;
   }
 
+  public int getWireVersion() {
+    return this.wireVersion;
+  }
+
   private static Predicate<String> commonClasses() {
     return Prelude.or(
         glob("java/*"),
@@ -1,10 +1,12 @@
 package org.pitest.coverage.execute;
 
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.Collection;
 
 import org.pitest.coverage.CoverageReceiver;
 import org.pitest.coverage.analysis.Block;
+import org.pitest.mutationtest.execute.WireFormat;
 import org.pitest.testapi.Description;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
@@ -14,22 +16,36 @@ import sun.pitest.CodeCoverageStore;
 
 public class CoveragePipe implements CoverageReceiver {
 
+  public static final int            END_OF_HITS = -1;
+
   private final SafeDataOutputStream dos;
+  private final WireFormat           format;
+
+  // reused between classes to avoid allocating per class per test
+  private byte[]                     bits = new byte[64];
 
   public CoveragePipe(final OutputStream dos) {
+    this(dos, WireFormat.SERIALIZED);
+  }
+
+  public CoveragePipe(final OutputStream dos, final WireFormat format) {
     this.dos = new SafeDataOutputStream(dos);
+    this.format = format;
+    if (format != WireFormat.SERIALIZED) {
+      this.dos.writeByte(Id.FORMAT);
+      this.dos.writeInt(format.version());
+    }
   }
 
   @Override
   public synchronized void recordTestOutcome(final Description description,
       final boolean wasGreen, final int executionTime) {
-    final Collection<Long> hits = CodeCoverageStore.getHits();
-
     this.dos.writeByte(Id.OUTCOME);
-    this.dos.write(description);
-    this.dos.writeInt(hits.size());
-    for (final Long each : hits) {
-      this.dos.writeLong(each);
+    this.format.writeDescription(this.dos, description);
+    if (this.format == WireFormat.SERIALIZED) {
+      writeEncodedProbeHits();
+    } else {
+      writeProbeBitsets();
     }
     this.dos.writeBoolean(wasGreen);
     this.dos.writeInt(executionTime);
@@ -38,6 +54,39 @@ public class CoveragePipe implements CoverageReceiver {
 
   }
 
+  private void writeEncodedProbeHits() {
+    final Collection<Long> hits = CodeCoverageStore.getHits();
+    this.dos.writeInt(hits.size());
+    for (final Long each : hits) {
+      this.dos.writeLong(each);
+    }
+  }
+
+  // Each class hit is sent as its id followed by a bitset of its probes
+  // (bit n set if probe n was hit), with trailing empty bytes trimmed. The
+  // list of classes is terminated by END_OF_HITS.
+  private void writeProbeBitsets() {
+    CodeCoverageStore.visitHits(this::writeBitset);
+    this.dos.writeInt(END_OF_HITS);
+  }
+
+  private void writeBitset(final int classId, final boolean[] probes) {
+    final int required = (probes.length + 7) >> 3;
+    if (this.bits.length < required) {
+      this.bits = new byte[required];
+    }
+    int used = 0;
+    for (int i = 0; i != probes.length; i++) {
+      if (probes[i]) {
+        this.bits[i >> 3] |= (byte) (1 << (i & 7));
+        used = (i >> 3) + 1;
+      }
+    }
+    this.dos.writeInt(classId);
+    this.dos.writeBytes(this.bits, used);
+    Arrays.fill(this.bits, 0, used, (byte) 0);
+  }
+
   public synchronized void end(final ExitCode exitCode) {
     this.dos.writeByte(Id.DONE);
     this.dos.writeInt(exitCode.getCode());
@@ -10,10 +10,17 @@ public class EngineArguments implements Serializable {
 
   private final Collection<String> mutators;
   private final Collection<String> excludedMethods;
+  private final boolean            mutantSchemata;
 
   public EngineArguments(Collection<String> mutators, Collection<String> excludedMethods) {
+    this(mutators, excludedMethods, false);
+  }
+
+  public EngineArguments(Collection<String> mutators,
+      Collection<String> excludedMethods, boolean mutantSchemata) {
     this.mutators = mutators;
     this.excludedMethods = excludedMethods;
+    this.mutantSchemata = mutantSchemata;
   }
 
   public static EngineArguments arguments() {
@@ -21,11 +28,15 @@ public class EngineArguments implements Serializable {
   }
 
   public EngineArguments withMutators(Collection<String> mutators) {
-    return new EngineArguments(mutators, this.excludedMethods);
+    return new EngineArguments(mutators, this.excludedMethods, this.mutantSchemata);
   }
 
   public EngineArguments withExcludedMethods(Collection<String> excludedMethods) {
-    return new EngineArguments(this.mutators, excludedMethods);
+    return new EngineArguments(this.mutators, excludedMethods, this.mutantSchemata);
+  }
+
+  public EngineArguments withMutantSchemata(boolean mutantSchemata) {
+    return new EngineArguments(this.mutators, this.excludedMethods, mutantSchemata);
   }
 
   public Collection<String> mutators() {
@@ -36,5 +47,12 @@ public class EngineArguments implements Serializable {
     return this.excludedMethods;
   }
 
-}
+  /**
+   * Whether minions should weave mutants into classes as they are loaded
+   * rather than redefining the class for each mutant.
+   */
+  public boolean useMutantSchemata() {
+    return this.mutantSchemata;
+  }
 
+}
@@ -62,4 +62,13 @@ public class TestPluginArguments implements Serializable {
     return this.skipFailingTests;
   }
 
+  @Override
+  public String toString() {
+    return "TestPluginArguments [testPlugin=" + this.testPlugin
+        + ", groupConfig=" + this.groupConfig + ", excludedRunners="
+        + this.excludedRunners + ", includedTestMethods="
+        + this.includedTestMethods + ", skipFailingTests="
+        + this.skipFailingTests + "]";
+  }
+
 }
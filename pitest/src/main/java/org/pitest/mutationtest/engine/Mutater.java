@@ -15,7 +15,9 @@
 package org.pitest.mutationtest.engine;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.objectweb.asm.tree.ClassNode;
 import org.pitest.classinfo.ClassName;
 
 /**
@@ -32,6 +34,20 @@ public interface Mutater {
    */
   Mutant getMutation(MutationIdentifier id);
 
+  /**
+   * Creates mutants matching each of the given MutationIdentifiers.
+   * Implementations may share work between mutants of the same class.
+   *
+   * @param ids
+   *          the mutants to create
+   * @return Mutants in the same order as the identifiers
+   */
+  default List<Mutant> getMutations(List<MutationIdentifier> ids) {
+    return ids.stream()
+        .map(this::getMutation)
+        .collect(Collectors.toList());
+  }
+
   /**
    * Scans for possible mutants in the given class
    *
@@ -41,4 +57,17 @@ public interface Mutater {
    */
   List<MutationDetails> findMutations(ClassName classToMutate);
 
+  /**
+   * Scans for possible mutants in a class that has already been parsed, so
+   * that the class need not be read again.
+   *
+   * @param classToMutate
+   *          the class to scan for mutants, read with expanded frames. It is
+   *          not modified.
+   * @return a list of possible mutants
+   */
+  default List<MutationDetails> findMutations(ClassNode classToMutate) {
+    return findMutations(ClassName.fromString(classToMutate.name));
+  }
+
 }
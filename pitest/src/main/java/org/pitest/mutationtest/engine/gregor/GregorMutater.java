@@ -19,23 +19,28 @@ import static org.pitest.functional.prelude.Prelude.and;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.tree.ClassNode;
+import org.pitest.bytecode.ASMVersion;
 import org.pitest.bytecode.FrameOptions;
 import org.pitest.bytecode.NullVisitor;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.ComputeClassWriter;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
@@ -43,7 +48,7 @@ import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public class GregorMutater implements Mutater {
 
-  private final Map<String, String>       computeCache   = new HashMap<>();
+  private final Map<String, String>       computeCache   = new ConcurrentHashMap<>();
   private final Predicate<MethodInfo>     filter;
   private final ClassByteArraySource      byteSource;
   private final Set<MethodMutatorFactory> mutators       = new HashSet<>();
@@ -70,6 +75,16 @@ public class GregorMutater implements Mutater {
 
   }
 
+  @Override
+  public List<MutationDetails> findMutations(final ClassNode classToMutate) {
+    final ClassContext context = new ClassContext();
+    context.setTargetMutation(Optional.<MutationIdentifier> empty());
+    final MutatingClassVisitor mca = new MutatingClassVisitor(
+        new NullVisitor(), context, filterMethods(), this.mutators);
+    classToMutate.accept(mca);
+    return new ArrayList<>(context.getCollectedMutations());
+  }
+
   private Function<byte[], List<MutationDetails>> findMutations(
       final ClassContext context) {
     return bytes -> findMutationsForBytes(context, bytes);
@@ -90,26 +105,47 @@ public class GregorMutater implements Mutater {
 
   @Override
   public Mutant getMutation(final MutationIdentifier id) {
+    return getMutations(Collections.singletonList(id)).get(0);
+  }
 
-    final ClassContext context = new ClassContext();
-    context.setTargetMutation(Optional.ofNullable(id));
+  /**
+   * Adjacent identifiers for the same class share a single read of the class.
+   * Only the mutated method is rewritten, other methods are copied unchanged
+   * from the original class.
+   */
+  @Override
+  public List<Mutant> getMutations(final List<MutationIdentifier> ids) {
+    final List<Mutant> mutants = new ArrayList<>(ids.size());
+    ClassName current = null;
+    byte[] bytes = null;
+    ClassReader reader = null;
+    for (final MutationIdentifier each : ids) {
+      if (!each.getClassName().equals(current)) {
+        current = each.getClassName();
+        bytes = this.byteSource.getBytes(current.asJavaName()).get();
+        reader = new ClassReader(bytes);
+      }
+      mutants.add(mutate(reader, FrameOptions.pickFlags(bytes), each));
+    }
+    return mutants;
+  }
 
-    final Optional<byte[]> bytes = this.byteSource.getBytes(id.getClassName()
-        .asJavaName());
+  private Mutant mutate(final ClassReader reader, final int flags,
+      final MutationIdentifier id) {
+    final ClassContext context = new ClassContext();
+    context.setTargetMutation(Optional.of(id));
 
-    final ClassReader reader = new ClassReader(bytes.get());
     final ClassWriter w = new ComputeClassWriter(this.byteSource,
-        this.computeCache, FrameOptions.pickFlags(bytes.get()));
+        this.computeCache, reader, flags);
     final MutatingClassVisitor mca = new MutatingClassVisitor(w, context,
         filterMethods(), FCollection.filter(this.mutators,
             isMutatorFor(id)));
-    reader.accept(mca, ClassReader.EXPAND_FRAMES);
+    reader.accept(new OnlyMutateMethod(mca, w, id.getLocation()),
+        ClassReader.EXPAND_FRAMES);
 
-    final List<MutationDetails> details = context.getMutationDetails(context
-        .getTargetMutation().get());
+    final List<MutationDetails> details = context.getMutationDetails(id);
 
     return new Mutant(details.get(0), w.toByteArray());
-
   }
 
   private static Predicate<MethodMutatorFactory> isMutatorFor(
@@ -134,4 +170,35 @@ public class GregorMutater implements Mutater {
     return a -> a.isGeneratedEnumMethod();
   }
 
+  /**
+   * Sends all methods other than the one containing the mutation straight to
+   * the writer, which allows ASM to copy them without parsing their code.
+   */
+  private static class OnlyMutateMethod extends ClassVisitor {
+
+    private final ClassVisitor writer;
+    private final Location     location;
+
+    OnlyMutateMethod(final ClassVisitor mutator, final ClassVisitor writer,
+        final Location location) {
+      super(ASMVersion.ASM_VERSION, mutator);
+      this.writer = writer;
+      this.location = location;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(final int access, final String name,
+        final String descriptor, final String signature,
+        final String[] exceptions) {
+      if (this.location.getMethodName().name().equals(name)
+          && this.location.getMethodDesc().equals(descriptor)) {
+        return super.visitMethod(access, name, descriptor, signature,
+            exceptions);
+      }
+      return this.writer.visitMethod(access, name, descriptor, signature,
+          exceptions);
+    }
+
+  }
+
 }
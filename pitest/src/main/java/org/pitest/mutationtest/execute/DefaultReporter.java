@@ -25,15 +25,25 @@ import java.io.OutputStream;
 public class DefaultReporter implements Reporter {
 
   private final SafeDataOutputStream w;
+  private WireFormat                 format = WireFormat.SERIALIZED;
 
   DefaultReporter(final OutputStream w) {
     this.w = new SafeDataOutputStream(w);
   }
 
+  @Override
+  public synchronized void useFormat(final WireFormat format) {
+    this.w.writeByte(Id.FORMAT);
+    this.w.writeInt(format.version());
+    this.format = format;
+  }
+
   @Override
   public synchronized void describe(final MutationIdentifier i) {
+    // must reach the parent before tests run, so it knows which mutant
+    // was being analysed if we crash. Carries the preceding report with it.
     this.w.writeByte(Id.DESCRIBE);
-    this.w.write(i);
+    this.format.writeIdentifier(this.w, i);
     this.w.flush();
   }
 
@@ -41,9 +51,8 @@ public class DefaultReporter implements Reporter {
   public synchronized void report(final MutationIdentifier i,
       final MutationStatusTestPair mutationDetected) {
     this.w.writeByte(Id.REPORT);
-    this.w.write(i);
-    this.w.write(mutationDetected);
-    this.w.flush();
+    this.format.writeIdentifier(this.w, i);
+    this.format.writeStatus(this.w, mutationDetected);
   }
 
   @Override
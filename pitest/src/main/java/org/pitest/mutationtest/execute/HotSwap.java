@@ -31,6 +31,23 @@ class HotSwap implements F3<ClassName, ClassLoader, byte[], Boolean> {
 
   }
 
+  /**
+   * Restores the last class mutated, so that no mutant remains installed.
+   */
+  void restore() {
+    if (this.lastMutatedClass == null) {
+      return;
+    }
+    try {
+      restoreForLoader(this.lastUsedLoader);
+    } catch (final ClassNotFoundException e) {
+      throw Unchecked.translateCheckedException(e);
+    } finally {
+      this.lastMutatedClass = null;
+      this.lastClassPreMutation = null;
+    }
+  }
+
   private void restoreLastClass(final ClassByteArraySource byteSource,
       final ClassName clazzName, final ClassLoader loader)
           throws ClassNotFoundException {
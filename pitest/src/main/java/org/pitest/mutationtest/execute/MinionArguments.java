@@ -17,6 +17,7 @@ package org.pitest.mutationtest.execute;
 import java.io.Serializable;
 import java.util.Collection;
 
+import org.pitest.classinfo.ClassHierarchy;
 import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
@@ -35,11 +36,26 @@ public class MinionArguments implements Serializable {
   final boolean                     verbose;
   final boolean                     fullMutationMatrix;
   final TestPluginArguments         pitConfig;
+  final int                         wireVersion;
+  final ClassHierarchy              hierarchy;
 
   public MinionArguments(final Collection<MutationDetails> mutations,
       final Collection<ClassName> tests, final String engine,   final EngineArguments engineArgs,
       final TimeoutLengthStrategy timeoutStrategy, final boolean verbose, final boolean fullMutationMatrix,
       final TestPluginArguments pitConfig) {
+    this(mutations, tests, engine, engineArgs, timeoutStrategy, verbose,
+        fullMutationMatrix, pitConfig, new ClassHierarchy());
+  }
+
+  /**
+   * @param hierarchy
+   *          describes the classes the mutated classes refer to, so the minion
+   *          need not read them to compute frames
+   */
+  public MinionArguments(final Collection<MutationDetails> mutations,
+      final Collection<ClassName> tests, final String engine,   final EngineArguments engineArgs,
+      final TimeoutLengthStrategy timeoutStrategy, final boolean verbose, final boolean fullMutationMatrix,
+      final TestPluginArguments pitConfig, final ClassHierarchy hierarchy) {
     this.mutations = mutations;
     this.testClasses = tests;
     this.engine = engine;
@@ -48,6 +64,8 @@ public class MinionArguments implements Serializable {
     this.verbose = verbose;
     this.fullMutationMatrix = fullMutationMatrix;
     this.pitConfig = pitConfig;
+    this.wireVersion = WireFormat.latest().version();
+    this.hierarchy = hierarchy;
   }
 
   public boolean isVerbose() {
@@ -0,0 +1,245 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.FieldNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.VarInsnNode;
+import org.pitest.bytecode.FrameOptions;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * A class with several mutants woven into it.
+ *
+ * Each mutated method is copied into a private synthetic method, and the
+ * original method starts with a switch on a static field that delegates to the
+ * copy for the active mutant. While the field holds 0 the class behaves as the
+ * original.
+ *
+ * Mutants in constructors and static initializers cannot be delegated to in
+ * this way, and are left out of the schema.
+ */
+final class MutantSchema {
+
+  static final String        FIELD         = "$$pitMutant";
+
+  private static final String METHOD_PREFIX = "$$pitMutant$";
+
+  private final ClassByteArraySource             source;
+  private final Map<String, String>              computeCache;
+  private final ClassName                        clazz;
+  private final Map<MutationIdentifier, Integer> ids;
+  private final Map<String, List<MethodNode>>    copies;
+  private final byte[]                           bytes;
+
+  private MutantSchema(final ClassByteArraySource source,
+      final Map<String, String> computeCache, final ClassName clazz,
+      final Map<MutationIdentifier, Integer> ids,
+      final Map<String, List<MethodNode>> copies, final byte[] original) {
+    this.source = source;
+    this.computeCache = computeCache;
+    this.clazz = clazz;
+    this.ids = ids;
+    this.copies = copies;
+    this.bytes = weaveInto(original);
+  }
+
+  /**
+   * Weaves as many of the given mutants as possible into the unmutated class.
+   * Returns empty if none can be woven.
+   *
+   * @param source
+   *          source of bytes used to resolve common super classes
+   * @param computeCache
+   *          cache of resolved super classes, shared between schemata
+   */
+  static Optional<MutantSchema> weave(final ClassByteArraySource source,
+      final Map<String, String> computeCache, final ClassName clazz,
+      final byte[] original, final List<Mutant> mutants) {
+    if (!FrameOptions.needsFrames(original) || isInterface(original)) {
+      return Optional.empty();
+    }
+
+    final Map<MutationIdentifier, Integer> ids = new HashMap<>();
+    final Map<String, List<MethodNode>> copies = new LinkedHashMap<>();
+    for (final Mutant each : mutants) {
+      final MutationIdentifier id = each.getDetails().getId();
+      final String method = id.getLocation().getMethodName().name();
+      if (method.equals("<init>") || method.equals("<clinit>")) {
+        continue;
+      }
+      final String key = method + id.getLocation().getMethodDesc();
+      final Optional<MethodNode> mutated = findMethod(read(each.getBytes()), key);
+      if (mutated.isPresent()) {
+        final int mutantNumber = ids.size() + 1;
+        ids.put(id, mutantNumber);
+        copies.computeIfAbsent(key, k -> new ArrayList<>())
+            .add(asCopy(mutated.get(), mutantNumber));
+      }
+    }
+
+    if (ids.isEmpty()) {
+      return Optional.empty();
+    }
+
+    return Optional.of(new MutantSchema(source, computeCache, clazz, ids,
+        copies, original));
+  }
+
+  ClassName getClassName() {
+    return this.clazz;
+  }
+
+  byte[] getBytes() {
+    return this.bytes;
+  }
+
+  /**
+   * The value the schema field must hold to activate the given mutant, or 0
+   * if it is not part of the schema.
+   */
+  int mutantNumber(final MutationIdentifier id) {
+    return this.ids.getOrDefault(id, 0);
+  }
+
+  /**
+   * Weaves the mutants of this schema into another version of the class, so
+   * that the result can replace the schema class without changing its shape.
+   */
+  byte[] weaveInto(final byte[] base) {
+    final ClassNode node = read(base);
+    node.fields.add(new FieldNode(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC
+        | Opcodes.ACC_SYNTHETIC, FIELD, "I", null, null));
+
+    final Map<String, MethodNode> methods = new HashMap<>();
+    for (final MethodNode each : node.methods) {
+      methods.put(each.name + each.desc, each);
+    }
+
+    for (final Map.Entry<String, List<MethodNode>> each : this.copies.entrySet()) {
+      final MethodNode target = methods.get(each.getKey());
+      if ((target == null) || (target.instructions.size() == 0)) {
+        throw new IllegalStateException("Cannot weave " + each.getKey()
+            + " into " + this.clazz);
+      }
+      target.instructions.insert(dispatch(node.name, target, each.getValue()));
+      node.methods.addAll(each.getValue());
+    }
+
+    final ClassWriter w = new ComputeClassWriter(this.source,
+        this.computeCache, FrameOptions.pickFlags(base));
+    node.accept(w);
+    return w.toByteArray();
+  }
+
+  private static InsnList dispatch(final String owner, final MethodNode target,
+      final List<MethodNode> copies) {
+    final InsnList insns = new InsnList();
+    final LabelNode original = new LabelNode();
+    final int[] keys = new int[copies.size()];
+    final LabelNode[] labels = new LabelNode[copies.size()];
+    for (int i = 0; i != copies.size(); i++) {
+      keys[i] = mutantNumber(copies.get(i));
+      labels[i] = new LabelNode();
+    }
+
+    insns.add(new FieldInsnNode(Opcodes.GETSTATIC, owner, FIELD, "I"));
+    insns.add(new LookupSwitchInsnNode(original, keys, labels));
+    for (int i = 0; i != copies.size(); i++) {
+      insns.add(labels[i]);
+      insns.add(delegateTo(owner, target, copies.get(i)));
+    }
+    insns.add(original);
+    return insns;
+  }
+
+  private static InsnList delegateTo(final String owner, final MethodNode target,
+      final MethodNode copy) {
+    final InsnList insns = new InsnList();
+    final boolean isStatic = (target.access & Opcodes.ACC_STATIC) != 0;
+    int local = 0;
+    if (!isStatic) {
+      insns.add(new VarInsnNode(Opcodes.ALOAD, 0));
+      local = 1;
+    }
+    for (final Type each : Type.getArgumentTypes(target.desc)) {
+      insns.add(new VarInsnNode(each.getOpcode(Opcodes.ILOAD), local));
+      local = local + each.getSize();
+    }
+    insns.add(new MethodInsnNode(isStatic ? Opcodes.INVOKESTATIC
+        : Opcodes.INVOKESPECIAL, owner, copy.name, copy.desc, false));
+    insns.add(new InsnNode(Type.getReturnType(target.desc).getOpcode(
+        Opcodes.IRETURN)));
+    return insns;
+  }
+
+  private static MethodNode asCopy(final MethodNode mutated,
+      final int mutantNumber) {
+    mutated.name = METHOD_PREFIX + mutantNumber;
+    mutated.access = (mutated.access & ~(Opcodes.ACC_PUBLIC
+        | Opcodes.ACC_PROTECTED | Opcodes.ACC_BRIDGE | Opcodes.ACC_VARARGS))
+        | Opcodes.ACC_PRIVATE | Opcodes.ACC_SYNTHETIC;
+    // the copy should be invisible to frameworks that scan for annotations
+    mutated.visibleAnnotations = null;
+    mutated.invisibleAnnotations = null;
+    mutated.visibleParameterAnnotations = null;
+    mutated.invisibleParameterAnnotations = null;
+    mutated.visibleTypeAnnotations = null;
+    mutated.invisibleTypeAnnotations = null;
+    mutated.annotationDefault = null;
+    return mutated;
+  }
+
+  private static int mutantNumber(final MethodNode copy) {
+    return Integer.parseInt(copy.name.substring(METHOD_PREFIX.length()));
+  }
+
+  private static Optional<MethodNode> findMethod(final ClassNode node,
+      final String key) {
+    for (final MethodNode each : node.methods) {
+      if (key.equals(each.name + each.desc)) {
+        return Optional.of(each);
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static boolean isInterface(final byte[] bytes) {
+    return (new ClassReader(bytes).getAccess() & Opcodes.ACC_INTERFACE) != 0;
+  }
+
+  private static ClassNode read(final byte[] bytes) {
+    final ClassNode node = new ClassNode();
+    // frames are recomputed when the schema is written
+    new ClassReader(bytes).accept(node, ClassReader.SKIP_FRAMES);
+    return node;
+  }
+
+  @Override
+  public String toString() {
+    return "MutantSchema [clazz=" + this.clazz + ", mutants="
+        + Collections.unmodifiableSet(this.ids.keySet()) + "]";
+  }
+
+}
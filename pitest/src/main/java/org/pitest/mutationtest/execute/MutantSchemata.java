@@ -0,0 +1,240 @@
+package org.pitest.mutationtest.execute;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.lang.reflect.Field;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.boot.HotSwapAgent;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * Installs mutants by weaving them into classes as they are first loaded, then
+ * selecting the active mutant by setting a static field.
+ *
+ * Mutants that are not part of a loaded schema (because they are in a
+ * constructor, or their class was loaded before the schema was prepared) are
+ * installed by redefining the class, as {@link HotSwap} does.
+ */
+class MutantSchemata implements ClassFileTransformer {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final ClassByteArraySource      byteSource;
+  private final ClassLoader               loader;
+  private final Map<String, String>       computeCache = new ConcurrentHashMap<>();
+  private final Map<String, MutantSchema> schemata     = new ConcurrentHashMap<>();
+  private final Set<String>               loaded       = ConcurrentHashMap.newKeySet();
+  private final Map<String, Field>        fields       = new HashMap<>();
+
+  private MutantSchema                    active;
+  private ClassName                       swapped;
+  private byte[]                          swappedOriginal;
+
+  MutantSchemata(final ClassByteArraySource byteSource,
+      final ClassLoader loader) {
+    this.byteSource = byteSource;
+    this.loader = loader;
+  }
+
+  /**
+   * Weaves schemata for the classes mutated by a batch. Must be called before
+   * those classes are loaded for the schemata to take effect.
+   */
+  void prepare(final Collection<MutationDetails> mutations,
+      final Mutater mutater) {
+    final Map<ClassName, List<MutationIdentifier>> byClass = new HashMap<>();
+    for (final MutationDetails each : mutations) {
+      if (!each.getTestsInOrder().isEmpty()
+          && !this.schemata.containsKey(each.getClassName().asInternalName())) {
+        byClass.computeIfAbsent(each.getClassName(), c -> new ArrayList<>())
+            .add(each.getId());
+      }
+    }
+
+    for (final Map.Entry<ClassName, List<MutationIdentifier>> each : byClass
+        .entrySet()) {
+      weave(each.getKey(), mutater.getMutations(each.getValue()))
+          .filter(this::canBeDefined)
+          .ifPresent(s -> this.schemata.put(s.getClassName().asInternalName(), s));
+    }
+  }
+
+  /**
+   * Makes the given mutant the active one, restoring any previously installed
+   * mutant.
+   *
+   * @return false if the mutant could not be installed
+   */
+  boolean install(final MutationIdentifier id, final byte[] mutant) {
+    final ClassName clazz = id.getClassName();
+    final MutantSchema schema = loadedSchema(clazz);
+    deselect();
+
+    if ((schema != null) && (schema.mutantNumber(id) != 0)) {
+      restoreSwapped();
+      select(schema, schema.mutantNumber(id));
+      return true;
+    }
+
+    if (!clazz.equals(this.swapped)) {
+      restoreSwapped();
+    }
+    return swap(clazz, schema, mutant);
+  }
+
+  /**
+   * Restores any installed mutant, leaving every class unmutated.
+   */
+  void restore() {
+    deselect();
+    restoreSwapped();
+  }
+
+  @Override
+  public byte[] transform(final ClassLoader loader, final String className,
+      final Class<?> classBeingRedefined,
+      final ProtectionDomain protectionDomain, final byte[] classfileBuffer) {
+    if ((classBeingRedefined != null) || (loader != this.loader)
+        || (className == null)) {
+      return null;
+    }
+    final MutantSchema schema = this.schemata.get(className);
+    if (schema == null) {
+      return null;
+    }
+    this.loaded.add(className);
+    return schema.getBytes();
+  }
+
+  private Optional<MutantSchema> weave(final ClassName clazz,
+      final List<Mutant> mutants) {
+    try {
+      return this.byteSource.getBytes(clazz.asJavaName())
+          .flatMap(bytes -> MutantSchema.weave(this.byteSource,
+              this.computeCache, clazz, bytes, mutants));
+    } catch (final RuntimeException ex) {
+      LOG.log(Level.FINE, "Could not weave schema for " + clazz, ex);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Checks a schema is accepted by the verifier by defining it in a throwaway
+   * loader, so that a bad schema never prevents its class from loading.
+   */
+  private boolean canBeDefined(final MutantSchema schema) {
+    try {
+      new VerifyingLoader(this.loader).verify(schema);
+      return true;
+    } catch (final Throwable t) {
+      LOG.fine("Schema for " + schema.getClassName() + " rejected: " + t);
+      return false;
+    }
+  }
+
+  private MutantSchema loadedSchema(final ClassName clazz) {
+    final String name = clazz.asInternalName();
+    if (this.loaded.contains(name)) {
+      return this.schemata.get(name);
+    }
+    return null;
+  }
+
+  private boolean swap(final ClassName clazz, final MutantSchema schema,
+      final byte[] mutant) {
+    try {
+      final byte[] replacement = schema != null ? schema.weaveInto(mutant)
+          : mutant;
+      if (!clazz.equals(this.swapped)) {
+        this.swappedOriginal = schema != null ? schema.getBytes()
+            : this.byteSource.getBytes(clazz.asJavaName()).get();
+      }
+      this.swapped = clazz;
+      return HotSwapAgent.hotSwap(classFor(clazz), replacement);
+    } catch (final RuntimeException ex) {
+      LOG.log(Level.FINE, "Could not redefine " + clazz, ex);
+      return false;
+    }
+  }
+
+  private void restoreSwapped() {
+    if (this.swapped != null) {
+      HotSwapAgent.hotSwap(classFor(this.swapped), this.swappedOriginal);
+      this.swapped = null;
+      this.swappedOriginal = null;
+    }
+  }
+
+  private void select(final MutantSchema schema, final int mutantNumber) {
+    setField(schema, mutantNumber);
+    this.active = schema;
+  }
+
+  private void deselect() {
+    if (this.active != null) {
+      setField(this.active, 0);
+      this.active = null;
+    }
+  }
+
+  private void setField(final MutantSchema schema, final int value) {
+    try {
+      this.fields.computeIfAbsent(schema.getClassName().asInternalName(),
+          c -> fieldFor(schema.getClassName())).setInt(null, value);
+    } catch (final IllegalAccessException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private Field fieldFor(final ClassName clazz) {
+    try {
+      final Field f = classFor(clazz).getDeclaredField(MutantSchema.FIELD);
+      f.setAccessible(true);
+      return f;
+    } catch (final NoSuchFieldException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private Class<?> classFor(final ClassName clazz) {
+    try {
+      return Class.forName(clazz.asJavaName(), false, this.loader);
+    } catch (final ClassNotFoundException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private static class VerifyingLoader extends ClassLoader {
+
+    VerifyingLoader(final ClassLoader parent) {
+      super(parent);
+    }
+
+    void verify(final MutantSchema schema) {
+      final byte[] bytes = schema.getBytes();
+      // listing the methods forces the class to be linked, and so verified,
+      // without running its static initializer
+      defineClass(schema.getClassName().asJavaName(), bytes, 0, bytes.length)
+          .getDeclaredMethods();
+    }
+
+  }
+
+}
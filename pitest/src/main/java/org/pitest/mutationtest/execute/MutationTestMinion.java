@@ -14,11 +14,16 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.lang.management.MemoryNotificationInfo;
 import java.net.Socket;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -29,14 +34,15 @@ import javax.management.openmbean.CompositeData;
 import org.pitest.boot.HotSwapAgent;
 import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassHierarchy;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
-import org.pitest.functional.F3;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.config.ClientPluginServices;
 import org.pitest.mutationtest.config.MinionSettings;
 import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.mocksupport.BendJavassistToMyWillTransformer;
 import org.pitest.mutationtest.mocksupport.JavassistInputStreamInterceptorAdapater;
@@ -46,6 +52,7 @@ import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.execute.FindTestUnits;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Glob;
+import org.pitest.util.Id;
 import org.pitest.util.IsolationUtils;
 import org.pitest.util.Log;
 import org.pitest.util.SafeDataInputStream;
@@ -54,9 +61,10 @@ public class MutationTestMinion {
 
   private static final Logger       LOG = Log.getLogger();
 
-  // We maintain a small cache to avoid reading byte code off disk more than once
-  // Size is arbitrary but assumed to be large enough to cover likely max number of inner classes
-  private static final int CACHE_SIZE = 12;
+  // We maintain a cache to avoid reading byte code off disk more than once. It
+  // is shared by the mutater, hotswap and schemata, and bounded by bytes rather
+  // than classes so that a few large classes cannot exhaust the heap
+  private static final long CACHE_SIZE = 16L * 1024 * 1024;
 
   private final SafeDataInputStream dis;
   private final Reporter            reporter;
@@ -72,39 +80,92 @@ public class MutationTestMinion {
   public void run() {
     try {
 
-      final MinionArguments paramsFromParent = this.dis
+      MinionArguments paramsFromParent = this.dis
           .read(MinionArguments.class);
 
       Log.setVerbose(paramsFromParent.isVerbose());
 
+      this.reporter.useFormat(WireFormat.negotiate(paramsFromParent.wireVersion));
+
       final ClassLoader loader = IsolationUtils.getContextClassLoader();
 
-      final ClassByteArraySource byteSource = new CachingByteArraySource(new ClassloaderByteArraySource(
-          loader), CACHE_SIZE);
+      // grows as each batch describes the classes it will mutate
+      final ClassHierarchy hierarchy = new ClassHierarchy();
+      final ClassByteArraySource byteSource = hierarchy.backing(
+          CachingByteArraySource.boundedBySize(
+              new ClassloaderByteArraySource(loader), CACHE_SIZE));
+
+      // shared by every batch, each of which restores the last class it
+      // mutated when it ends
+      final HotSwap hotswap = new HotSwap(byteSource);
+
+      final Optional<MutantSchemata> schemata = createSchemata(
+          paramsFromParent.engineArgs, byteSource, loader);
+
+      final Map<ClassName, List<TestUnit>> knownTests = new HashMap<>();
+      final Configuration testPlugin = createTestPlugin(paramsFromParent.pitConfig);
 
-      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap = new HotSwap(
-          byteSource);
+      while (paramsFromParent != null) {
+        hierarchy.addAll(paramsFromParent.hierarchy);
+        runBatch(paramsFromParent, loader, byteSource, hotswap, schemata,
+            testPlugin, knownTests);
+        this.reporter.done(ExitCode.OK);
+        paramsFromParent = readNextBatch();
+      }
+
+    } catch (final Throwable ex) {
+      ex.printStackTrace(System.out);
+      LOG.log(Level.WARNING, "Error during mutation test", ex);
+      this.reporter.done(ExitCode.UNKNOWN_ERROR);
+    }
+
+  }
 
-      final MutationEngine engine = createEngine(paramsFromParent.engine, paramsFromParent.engineArgs);
+  private void runBatch(final MinionArguments paramsFromParent,
+      final ClassLoader loader, final ClassByteArraySource byteSource,
+      final HotSwap hotswap, final Optional<MutantSchemata> schemata,
+      final Configuration testPlugin,
+      final Map<ClassName, List<TestUnit>> knownTests) throws IOException {
+    final MutationEngine engine = createEngine(paramsFromParent.engine, paramsFromParent.engineArgs);
+    final Mutater mutater = engine.createMutator(byteSource);
 
+    // schemata must be in place before the tests load the mutated classes
+    schemata.ifPresent(s -> s.prepare(paramsFromParent.mutations, mutater));
 
-      final MutationTestWorker worker = new MutationTestWorker(hotswap,
-          engine.createMutator(byteSource), loader, paramsFromParent.fullMutationMatrix);
+    final MutationTestWorker worker = new MutationTestWorker(hotswap, schemata,
+        mutater, loader, paramsFromParent.fullMutationMatrix);
 
-      final List<TestUnit> tests = findTestsForTestClasses(loader,
-          paramsFromParent.testClasses, createTestPlugin(paramsFromParent.pitConfig));
+    final List<TestUnit> tests = findTestsForTestClasses(loader,
+        paramsFromParent.testClasses, testPlugin, knownTests);
 
+    try {
       worker.run(paramsFromParent.mutations, this.reporter,
           new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
               tests, this.reporter));
+    } finally {
+      // the next batch discovers its tests against unmutated classes
+      schemata.ifPresent(MutantSchemata::restore);
+      hotswap.restore();
+    }
+  }
 
-      this.reporter.done(ExitCode.OK);
-    } catch (final Throwable ex) {
-      ex.printStackTrace(System.out);
-      LOG.log(Level.WARNING, "Error during mutation test", ex);
-      this.reporter.done(ExitCode.UNKNOWN_ERROR);
+  private static Optional<MutantSchemata> createSchemata(
+      final EngineArguments args, final ClassByteArraySource byteSource,
+      final ClassLoader loader) {
+    if (!args.useMutantSchemata()) {
+      return Optional.empty();
     }
+    final MutantSchemata schemata = new MutantSchemata(byteSource, loader);
+    HotSwapAgent.addTransformer(schemata);
+    return Optional.of(schemata);
+  }
 
+  private MinionArguments readNextBatch() {
+    // the parent either sends another batch of work, or asks us to exit
+    if (this.dis.readByte() == Id.BATCH) {
+      return this.dis.read(MinionArguments.class);
+    }
+    return null;
   }
 
   private MutationEngine createEngine(String engine, EngineArguments args) {
@@ -129,7 +190,8 @@ public class MutationTestMinion {
       final SafeDataInputStream dis = new SafeDataInputStream(
           s.getInputStream());
 
-      final Reporter reporter = new DefaultReporter(s.getOutputStream());
+      final Reporter reporter = new DefaultReporter(new BufferedOutputStream(
+          s.getOutputStream()));
       addMemoryWatchDog(reporter);
       final ClientPluginServices plugins = new ClientPluginServices(IsolationUtils.getContextClassLoader());
       final MinionSettings factory = new MinionSettings(plugins);
@@ -148,9 +210,19 @@ public class MutationTestMinion {
 
   private static List<TestUnit> findTestsForTestClasses(
       final ClassLoader loader, final Collection<ClassName> testClasses,
-      final Configuration pitConfig) {
-    final Collection<Class<?>> tcs = testClasses.stream().flatMap(ClassName.nameToClass(loader)).collect(Collectors.toList());
+      final Configuration pitConfig, final Map<ClassName, List<TestUnit>> knownTests) {
     final FindTestUnits finder = new FindTestUnits(pitConfig);
+    final List<TestUnit> tus = new ArrayList<>();
+    for (final ClassName each : testClasses) {
+      tus.addAll(knownTests.computeIfAbsent(each, c -> findTestsForTestClass(loader, c, finder)));
+    }
+    return tus;
+  }
+
+  private static List<TestUnit> findTestsForTestClass(final ClassLoader loader,
+      final ClassName testClass, final FindTestUnits finder) {
+    final Collection<Class<?>> tcs = ClassName.nameToClass(loader).apply(testClass)
+        .collect(Collectors.toList());
     return finder.findTestUnitsForAllSuppliedClasses(tcs);
   }
 
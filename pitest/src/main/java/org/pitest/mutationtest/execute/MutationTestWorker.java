@@ -38,6 +38,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -57,13 +58,22 @@ public class MutationTestWorker {
   private final ClassLoader                                 loader;
   private final F3<ClassName, ClassLoader, byte[], Boolean> hotswap;
   private final boolean                                     fullMutationMatrix;
+  private final Optional<MutantSchemata>                    schemata;
 
   public MutationTestWorker(
       final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
       final Mutater mutater, final ClassLoader loader, final boolean fullMutationMatrix) {
+    this(hotswap, Optional.empty(), mutater, loader, fullMutationMatrix);
+  }
+
+  MutationTestWorker(
+      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final Optional<MutantSchemata> schemata, final Mutater mutater,
+      final ClassLoader loader, final boolean fullMutationMatrix) {
     this.loader = loader;
     this.mutater = mutater;
     this.hotswap = hotswap;
+    this.schemata = schemata;
     this.fullMutationMatrix = fullMutationMatrix;
   }
 
@@ -140,8 +150,7 @@ public class MutationTestWorker {
 
     final Container c = createNewContainer();
     final long t0 = System.currentTimeMillis();
-    if (this.hotswap.apply(mutationId.getClassName(), this.loader,
-        mutatedClass.getBytes())) {
+    if (install(mutationId, mutatedClass)) {
       if (DEBUG) {
         LOG.fine("replaced class with mutant in "
             + (System.currentTimeMillis() - t0) + " ms");
@@ -155,6 +164,16 @@ public class MutationTestWorker {
     return mutationDetected;
   }
 
+  private boolean install(final MutationDetails mutationId,
+      final Mutant mutatedClass) {
+    if (this.schemata.isPresent()) {
+      return this.schemata.get().install(mutationId.getId(),
+          mutatedClass.getBytes());
+    }
+    return this.hotswap.apply(mutationId.getClassName(), this.loader,
+        mutatedClass.getBytes());
+  }
+
   private static Container createNewContainer() {
     return new UnContainer() {
       @Override
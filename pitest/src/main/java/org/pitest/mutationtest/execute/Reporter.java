@@ -20,6 +20,8 @@ import org.pitest.util.ExitCode;
 
 public interface Reporter {
 
+  void useFormat(WireFormat format);
+
   void describe(MutationIdentifier i);
 
   void report(MutationIdentifier i, MutationStatusTestPair mutationDetected);
@@ -0,0 +1,72 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.pitest.util.Unchecked;
+
+/**
+ * Runs tests one at a time on a reusable daemon thread, waiting for each
+ * until its deadline has passed.
+ *
+ * A thread still running a test when its deadline passes is abandoned, and
+ * the next test is given a new thread. The minion normally exits when a test
+ * times out, so this is rare.
+ */
+public final class TimeLimitedRunner {
+
+  // an idle thread is discarded, so a runner that is no longer used does not
+  // hold a thread
+  private static final long  KEEP_ALIVE_SECONDS = 10;
+
+  private ThreadPoolExecutor executor;
+
+  /**
+   * @return true if the action completed before its deadline
+   */
+  public boolean run(final Runnable action, final long maxTime) {
+    final long deadline = System.nanoTime()
+        + TimeUnit.MILLISECONDS.toNanos(maxTime);
+    final Future<?> future = executor().submit(action);
+    try {
+      future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    } catch (final TimeoutException ex) {
+      // swallow
+    } catch (final InterruptedException e) {
+      // swallow
+    } catch (final ExecutionException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+
+    if (!future.isDone()) {
+      abandonThread();
+      return false;
+    }
+    return true;
+  }
+
+  private synchronized ThreadPoolExecutor executor() {
+    if (this.executor == null) {
+      this.executor = new ThreadPoolExecutor(1, 1, KEEP_ALIVE_SECONDS,
+          TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            final Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName("mutationTestThread");
+            return thread;
+          });
+      this.executor.allowCoreThreadTimeOut(true);
+    }
+    return this.executor;
+  }
+
+  private synchronized void abandonThread() {
+    // the thread ends if the test ever finishes
+    this.executor.shutdown();
+    this.executor = null;
+  }
+
+}
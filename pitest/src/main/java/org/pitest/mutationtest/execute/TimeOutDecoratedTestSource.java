@@ -23,21 +23,25 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.pitest.coverage.TestInfo;
+import org.pitest.functional.SideEffect;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.testapi.TestUnit;
 
 public class TimeOutDecoratedTestSource {
 
-  private final Map<String, TestUnit> allTests = new HashMap<>();
+  private final Map<String, TestUnit> allTests  = new HashMap<>();
+  // decorators are reused for every mutant that a test is run against
+  private final Map<String, TestUnit> decorated = new HashMap<>();
   private final TimeoutLengthStrategy timeoutStrategy;
-  private final Reporter              r;
+  private final SideEffect            timeOutSideEffect;
+  private final TimeLimitedRunner     runner    = new TimeLimitedRunner();
 
   public TimeOutDecoratedTestSource(
       final TimeoutLengthStrategy timeoutStrategy,
       final List<TestUnit> allTests, final Reporter r) {
     this.timeoutStrategy = timeoutStrategy;
     mapTests(allTests);
-    this.r = r;
+    this.timeOutSideEffect = new TimeOutSystemExitSideEffect(r);
   }
 
   private void mapTests(final List<TestUnit> tests) {
@@ -55,11 +59,9 @@ public class TimeOutDecoratedTestSource {
       final TestUnit tu = TimeOutDecoratedTestSource.this.allTests.get(a
           .getName());
       if (tu != null) {
-        return Stream
-            .<TestUnit> of(new MutationTimeoutDecorator(tu,
-                new TimeOutSystemExitSideEffect(
-                    TimeOutDecoratedTestSource.this.r),
-                    TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime()));
+        return Stream.of(this.decorated.computeIfAbsent(a.getName(),
+            name -> new MutationTimeoutDecorator(tu, this.timeOutSideEffect,
+                this.timeoutStrategy, a.getTime(), this.runner)));
       }
       return Stream.empty();
     };
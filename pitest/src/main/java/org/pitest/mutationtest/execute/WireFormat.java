@@ -0,0 +1,177 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.testapi.Description;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Encodings for the objects minions send to the main process.
+ *
+ * The main process offers the highest version it understands, the minion
+ * announces the version it will use (see {@link org.pitest.util.Id#FORMAT}).
+ * A process that receives no announcement assumes {@link #SERIALIZED}.
+ */
+public enum WireFormat {
+
+  /**
+   * Each object written using java serialization
+   */
+  SERIALIZED(1) {
+    @Override
+    public void writeIdentifier(SafeDataOutputStream dos, MutationIdentifier id) {
+      dos.write(id);
+    }
+
+    @Override
+    public MutationIdentifier readIdentifier(SafeDataInputStream dis) {
+      return dis.read(MutationIdentifier.class);
+    }
+
+    @Override
+    public void writeStatus(SafeDataOutputStream dos, MutationStatusTestPair status) {
+      dos.write(status);
+    }
+
+    @Override
+    public MutationStatusTestPair readStatus(SafeDataInputStream dis) {
+      return dis.read(MutationStatusTestPair.class);
+    }
+
+    @Override
+    public void writeDescription(SafeDataOutputStream dos, Description d) {
+      dos.write(d);
+    }
+
+    @Override
+    public Description readDescription(SafeDataInputStream dis) {
+      return dis.read(Description.class);
+    }
+  },
+
+  /**
+   * Hand rolled binary encoding. Class, method, mutator and test names are
+   * interned by the stream so each is sent in full only once.
+   */
+  BINARY(2) {
+    @Override
+    public void writeIdentifier(SafeDataOutputStream dos, MutationIdentifier id) {
+      final Location l = id.getLocation();
+      dos.writeInternedString(l.getClassName().asInternalName());
+      dos.writeInternedString(l.getMethodName().name());
+      dos.writeInternedString(l.getMethodDesc());
+      dos.writeInt(id.getIndexes().size());
+      for (final int each : id.getIndexes()) {
+        dos.writeInt(each);
+      }
+      dos.writeInternedString(id.getMutator());
+    }
+
+    @Override
+    public MutationIdentifier readIdentifier(SafeDataInputStream dis) {
+      final Location l = Location.location(
+          ClassName.fromString(dis.readInternedString()),
+          MethodName.fromString(dis.readInternedString()),
+          dis.readInternedString());
+      final int count = dis.readInt();
+      final List<Integer> indexes = new ArrayList<>(count);
+      for (int i = 0; i != count; i++) {
+        indexes.add(dis.readInt());
+      }
+      return new MutationIdentifier(l, indexes, dis.readInternedString());
+    }
+
+    @Override
+    public void writeStatus(SafeDataOutputStream dos, MutationStatusTestPair status) {
+      dos.writeInt(status.getNumberOfTestsRun());
+      dos.writeByte((byte) status.getStatus().ordinal());
+      writeStrings(dos, status.getKillingTests());
+      writeStrings(dos, status.getSucceedingTests());
+    }
+
+    @Override
+    public MutationStatusTestPair readStatus(SafeDataInputStream dis) {
+      final int testsRun = dis.readInt();
+      final DetectionStatus status = DetectionStatus.values()[dis.readByte()];
+      return new MutationStatusTestPair(testsRun, status, readStrings(dis),
+          readStrings(dis));
+    }
+
+    @Override
+    public void writeDescription(SafeDataOutputStream dos, Description d) {
+      dos.writeInternedString(d.getFirstTestClass());
+      dos.writeInternedString(d.getName());
+    }
+
+    @Override
+    public Description readDescription(SafeDataInputStream dis) {
+      final String testClass = dis.readInternedString();
+      return new Description(dis.readInternedString(), testClass);
+    }
+
+    private void writeStrings(SafeDataOutputStream dos, List<String> strings) {
+      dos.writeInt(strings.size());
+      for (final String each : strings) {
+        dos.writeInternedString(each);
+      }
+    }
+
+    private List<String> readStrings(SafeDataInputStream dis) {
+      final int count = dis.readInt();
+      final List<String> strings = new ArrayList<>(count);
+      for (int i = 0; i != count; i++) {
+        strings.add(dis.readInternedString());
+      }
+      return strings;
+    }
+  };
+
+  private final int version;
+
+  WireFormat(int version) {
+    this.version = version;
+  }
+
+  public int version() {
+    return this.version;
+  }
+
+  public static WireFormat latest() {
+    return BINARY;
+  }
+
+  /**
+   * Selects the most recent format understood by both this process and the one
+   * that offered the given version.
+   */
+  public static WireFormat negotiate(int offeredVersion) {
+    WireFormat selected = SERIALIZED;
+    for (final WireFormat each : values()) {
+      if (each.version <= offeredVersion && each.version > selected.version) {
+        selected = each;
+      }
+    }
+    return selected;
+  }
+
+  public abstract void writeIdentifier(SafeDataOutputStream dos, MutationIdentifier id);
+
+  public abstract MutationIdentifier readIdentifier(SafeDataInputStream dis);
+
+  public abstract void writeStatus(SafeDataOutputStream dos, MutationStatusTestPair status);
+
+  public abstract MutationStatusTestPair readStatus(SafeDataInputStream dis);
+
+  public abstract void writeDescription(SafeDataOutputStream dos, Description d);
+
+  public abstract Description readDescription(SafeDataInputStream dis);
+
+}
@@ -22,10 +22,13 @@ import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 public class SafeDataInputStream {
 
   private final DataInputStream dis;
+  private final List<String>    strings = new ArrayList<>();
 
   public SafeDataInputStream(final InputStream is) {
     this.dis = new DataInputStream(is);
@@ -43,6 +46,20 @@ public class SafeDataInputStream {
     return new String(readBytes(), StandardCharsets.UTF_8);
   }
 
+  public String readInternedString() {
+    final int id = readInt();
+    switch (id) {
+    case SafeDataOutputStream.NULL_STRING:
+      return null;
+    case SafeDataOutputStream.NEW_STRING:
+      final String str = readString();
+      this.strings.add(str);
+      return str;
+    default:
+      return this.strings.get(id);
+    }
+  }
+
   public byte[] readBytes() {
     try {
       final int length = this.dis.readInt();
@@ -22,10 +22,16 @@ import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 
 public class SafeDataOutputStream {
 
-  private final DataOutputStream dos;
+  static final int NULL_STRING = -1;
+  static final int NEW_STRING  = -2;
+
+  private final DataOutputStream     dos;
+  private final Map<String, Integer> strings = new HashMap<>();
 
   public SafeDataOutputStream(final OutputStream os) {
     this.dos = new DataOutputStream(os);
@@ -45,10 +51,38 @@ public class SafeDataOutputStream {
   }
 
 
+  /**
+   * Writes a string that is likely to be sent many times. The full string is
+   * sent only on first use, thereafter it is referred to by an int id.
+   * Must be read with {@link SafeDataInputStream#readInternedString()}.
+   */
+  public void writeInternedString(final String str) {
+    if (str == null) {
+      writeInt(NULL_STRING);
+      return;
+    }
+    final Integer id = this.strings.get(str);
+    if (id != null) {
+      writeInt(id);
+    } else {
+      this.strings.put(str, this.strings.size());
+      writeInt(NEW_STRING);
+      writeString(str);
+    }
+  }
+
   public void writeBytes(final byte[] data) {
+    writeBytes(data, data.length);
+  }
+
+  /**
+   * Writes the first length bytes of data, to be read back by
+   * {@link SafeDataInputStream#readBytes()}
+   */
+  public void writeBytes(final byte[] data, final int length) {
     try {
-      this.dos.writeInt(data.length);
-      this.dos.write(data);
+      this.dos.writeInt(length);
+      this.dos.write(data, 0, length);
     } catch (final IOException e) {
       throw Unchecked.translateCheckedException(e);
     }
@@ -23,8 +23,9 @@ package sun.pitest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.pitest.coverage.analysis.Block;
@@ -57,6 +58,11 @@ public final class CodeCoverageStore {
   // investigated
   private static final Map<Integer, boolean[]> CLASS_HITS        = new ConcurrentHashMap<>();
 
+  // ids of classes whose class hit probe has been set since the last reset.
+  // Marked by instrumented code the first time it sets probe 0, so reset and
+  // hit collection need visit only the classes touched by the current test.
+  private static final Set<Integer>            TOUCHED_CLASSES   = ConcurrentHashMap.newKeySet();
+
   public static void init(final InvokeReceiver invokeQueue) {
     CodeCoverageStore.invokeQueue = invokeQueue;
   }
@@ -64,23 +70,34 @@ public final class CodeCoverageStore {
   private CodeCoverageStore() {
   }
 
+  /**
+   * Called by instrumented code when it sets the class hit probe of a class
+   * that has not been hit since the last reset.
+   */
+  public static void markTouched(final int classId) {
+    TOUCHED_CLASSES.add(classId);
+  }
+
   public static synchronized void reset() {
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      if (each.getValue()[0]) { //Probe 0 gets covered by any method that runs
-        Arrays.fill(each.getValue(), false);
+    final Iterator<Integer> it = TOUCHED_CLASSES.iterator();
+    while (it.hasNext()) {
+      final Integer classId = it.next();
+      it.remove();
+      final boolean[] bs = CLASS_HITS.get(classId);
+      if (bs != null) {
+        Arrays.fill(bs, false);
       }
     }
   }
 
   public static synchronized Collection<Long> getHits() {
     final Collection<Long> blockHits = new ArrayList<>();
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      final boolean[] bs = each.getValue();
+    for (final Integer classId : TOUCHED_CLASSES) {
+      final boolean[] bs = CLASS_HITS.get(classId);
       // first entry tracks if class has been visited at all
-      if (!bs[CLASS_HIT_INDEX]) {
+      if ((bs == null) || !bs[CLASS_HIT_INDEX]) {
         continue;
       }
-      final int classId = each.getKey();
       // final int[] mapping = classProbeToBlockMapping.get(classId);
       for (int probeId = 1; probeId != bs.length; probeId++) {
         if (bs[probeId]) {
@@ -91,6 +108,26 @@ public final class CodeCoverageStore {
     return blockHits;
   }
 
+  /**
+   * Receives the probe array of each class hit since the last reset.
+   */
+  public interface HitVisitor {
+    void visit(int classId, boolean[] probes);
+  }
+
+  /**
+   * Passes each class hit since the last reset to the visitor, without
+   * copying or boxing. The arrays are live and must not be retained.
+   */
+  public static synchronized void visitHits(final HitVisitor visitor) {
+    for (final Integer classId : TOUCHED_CLASSES) {
+      final boolean[] bs = CLASS_HITS.get(classId);
+      if ((bs != null) && bs[CLASS_HIT_INDEX]) {
+        visitor.visit(classId, bs);
+      }
+    }
+  }
+
   public static int registerClass(final String className) {
     final int id = nextId();
     invokeQueue.registerClass(id, className);
@@ -149,6 +186,7 @@ public final class CodeCoverageStore {
 
   public static void resetAllStaticState() {
     CLASS_HITS.clear();
+    TOUCHED_CLASSES.clear();
   }
 
 }
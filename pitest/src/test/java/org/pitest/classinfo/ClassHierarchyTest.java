@@ -0,0 +1,111 @@
+package org.pitest.classinfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.util.IsolationUtils;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+public class ClassHierarchyTest {
+
+  private final ClassByteArraySource source = new ClassloaderByteArraySource(
+      IsolationUtils.getContextClassLoader());
+
+  @Test
+  public void shouldDescribeAncestorsOfClassesReferredToByMethods() {
+    final ClassHierarchy testee = ClassHierarchy.forClasses(this.source,
+        Collections.singletonList(ClassName.fromClass(UsesChild.class)));
+
+    assertThat(testee.typeInfo(internalName(Child.class))).isPresent();
+    assertThat(testee.typeInfo(internalName(Parent.class))).isPresent();
+    assertThat(testee.typeInfo(internalName(AnInterface.class))).isPresent();
+    assertThat(testee.typeInfo("java/lang/Object")).isPresent();
+  }
+
+  @Test
+  public void shouldRecordSuperClassAndInterfaces() {
+    final ClassHierarchy testee = ClassHierarchy.forClasses(this.source,
+        Collections.singletonList(ClassName.fromClass(UsesChild.class)));
+
+    final ClassHierarchy.TypeInfo child = testee
+        .typeInfo(internalName(Child.class)).get();
+    assertEquals(internalName(Parent.class), child.getSuperName());
+    assertThat(child.isInterface()).isFalse();
+    assertThat(testee.typeInfo(internalName(AnInterface.class)).get()
+        .isInterface()).isTrue();
+  }
+
+  @Test
+  public void shouldIgnoreClassesThatCannotBeFound() {
+    final ClassHierarchy testee = ClassHierarchy.forClasses(
+        clazz -> Optional.empty(),
+        Collections.singletonList(ClassName.fromClass(UsesChild.class)));
+    assertEquals(0, testee.size());
+  }
+
+  @Test
+  public void shouldComputeFramesWithoutReadingDescribedClasses() {
+    final ClassHierarchy hierarchy = ClassHierarchy.forClasses(this.source,
+        Arrays.asList(ClassName.fromClass(UsesChild.class)));
+    final ClassByteArraySource nothingOnClassPath = hierarchy
+        .backing(clazz -> Optional.empty());
+
+    final ComputeClassWriter writer = new ComputeClassWriter(
+        nothingOnClassPath, new HashMap<String, String>(), 0);
+
+    assertEquals(internalName(Parent.class), writer.getCommonSuperClass(
+        internalName(Child.class), internalName(OtherChild.class)));
+  }
+
+  @Test
+  public void shouldSurviveSerialization() {
+    final ClassHierarchy testee = ClassHierarchy.forClasses(this.source,
+        Collections.singletonList(ClassName.fromClass(UsesChild.class)));
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    final SafeDataOutputStream dos = new SafeDataOutputStream(bos);
+    dos.write(testee);
+    dos.flush();
+    final ClassHierarchy copy = new SafeDataInputStream(
+        new ByteArrayInputStream(bos.toByteArray())).read(ClassHierarchy.class);
+    assertEquals(testee.size(), copy.size());
+    assertEquals(internalName(Parent.class),
+        copy.typeInfo(internalName(Child.class)).get().getSuperName());
+  }
+
+  private static String internalName(final Class<?> clazz) {
+    return ClassName.fromClass(clazz).asInternalName();
+  }
+
+  interface AnInterface {
+
+  }
+
+  static class Parent {
+
+  }
+
+  static class Child extends Parent implements AnInterface {
+
+  }
+
+  static class OtherChild extends Parent {
+
+  }
+
+  static class UsesChild {
+    Parent pick(final boolean b) {
+      return b ? new Child() : new OtherChild();
+    }
+  }
+
+}
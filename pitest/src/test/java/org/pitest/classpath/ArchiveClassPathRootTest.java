@@ -14,9 +14,12 @@
  */
 package org.pitest.classpath;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
@@ -27,6 +30,7 @@ import java.util.Collection;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.pitest.util.StreamUtil;
 
 public class ArchiveClassPathRootTest {
 
@@ -81,4 +85,61 @@ public class ArchiveClassPathRootTest {
     assertNotNull(this.testee.getResource("injar/p1/P1Test.class"));
   }
 
+  @Test
+  public void shouldReturnSameDataForRepeatedLookups() throws Exception {
+    final byte[] first = StreamUtil.streamToByteArray(this.testee
+        .getData("injar.p1.P1Test"));
+    final byte[] second = StreamUtil.streamToByteArray(this.testee
+        .getData("injar.p1.P1Test"));
+    assertTrue(first.length > 0);
+    assertArrayEquals(first, second);
+  }
+
+  @Test
+  public void shouldKeepArchiveOpenBetweenLookups() throws Exception {
+    this.testee.getData("injar.p1.P1Test");
+    assertTrue(this.testee.isOpen());
+  }
+
+  @Test
+  public void shouldReopenArchiveWhenUsedAfterBeingClosed() throws Exception {
+    this.testee.getData("injar.p1.P1Test");
+    this.testee.close();
+    assertFalse(this.testee.isOpen());
+    assertNotNull(this.testee.getData("injar.p1.P1Test"));
+  }
+
+  @Test
+  public void shouldCloseLeastRecentlyUsedArchiveWhenTooManyAreOpen()
+      throws Exception {
+    final OpenArchives open = new OpenArchives(1);
+    final ArchiveClassPathRoot first = new ArchiveClassPathRoot(new File(
+        "mytests.jar"), open);
+    final ArchiveClassPathRoot second = new ArchiveClassPathRoot(new File(
+        "mytests.jar"), open);
+
+    first.getData("injar.p1.P1Test");
+    second.getData("injar.p1.P1Test");
+
+    assertFalse(first.isOpen());
+    assertTrue(second.isOpen());
+  }
+
+  @Test
+  public void shouldCloseEveryArchiveOpenedThroughTheSameTracker()
+      throws Exception {
+    final OpenArchives open = new OpenArchives(2);
+    final ArchiveClassPathRoot first = new ArchiveClassPathRoot(new File(
+        "mytests.jar"), open);
+    final ArchiveClassPathRoot second = new ArchiveClassPathRoot(new File(
+        "mytests.jar"), open);
+
+    first.getData("injar.p1.P1Test");
+    second.getData("injar.p1.P1Test");
+    open.closeAll();
+
+    assertFalse(first.isOpen());
+    assertFalse(second.isOpen());
+  }
+
 }
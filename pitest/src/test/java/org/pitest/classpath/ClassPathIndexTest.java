@@ -0,0 +1,168 @@
+package org.pitest.classpath;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ClassPathIndexTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File           indexFile;
+  private File           archive;
+  private File           directory;
+
+  @Before
+  public void setUp() throws IOException {
+    this.indexFile = new File(this.folder.getRoot(), "index");
+    this.archive = this.folder.newFile("some.jar");
+    write(this.archive, 10);
+    this.directory = this.folder.newFolder("classes");
+    new File(this.directory, "sub").mkdir();
+  }
+
+  @Test
+  public void shouldReturnRootUnwrappedWhenDisabled() {
+    final ClassPathRoot root = new CountingRoot("foo.Bar");
+    assertSame(root, ClassPathIndex.disabled().index(this.archive, root));
+  }
+
+  @Test
+  public void shouldReuseNamesForUnchangedArchive() {
+    scanWithNewIndex(this.archive, new CountingRoot("foo.Bar", "foo.Baz"));
+
+    final CountingRoot second = new CountingRoot("not.Used");
+    assertEquals(Arrays.asList("foo.Bar", "foo.Baz"),
+        scanWithNewIndex(this.archive, second));
+    assertEquals(0, second.scans);
+  }
+
+  @Test
+  public void shouldRescanArchiveWhoseSizeHasChanged() throws IOException {
+    final long modified = this.archive.lastModified();
+    scanWithNewIndex(this.archive, new CountingRoot("foo.Bar"));
+    write(this.archive, 20);
+    this.archive.setLastModified(modified);
+
+    final CountingRoot second = new CountingRoot("foo.Changed");
+    assertEquals(Arrays.asList("foo.Changed"),
+        scanWithNewIndex(this.archive, second));
+    assertEquals(1, second.scans);
+  }
+
+  @Test
+  public void shouldRescanArchiveWhoseModificationTimeHasChanged() {
+    scanWithNewIndex(this.archive, new CountingRoot("foo.Bar"));
+    this.archive.setLastModified(this.archive.lastModified() - 10000);
+
+    final CountingRoot second = new CountingRoot("foo.Changed");
+    scanWithNewIndex(this.archive, second);
+    assertEquals(1, second.scans);
+  }
+
+  @Test
+  public void shouldReuseNamesForUnchangedDirectory() {
+    scanWithNewIndex(this.directory, new CountingRoot("foo.Bar"));
+
+    final CountingRoot second = new CountingRoot("not.Used");
+    assertEquals(Arrays.asList("foo.Bar"),
+        scanWithNewIndex(this.directory, second));
+    assertEquals(0, second.scans);
+  }
+
+  @Test
+  public void shouldRescanDirectoryWhenASubdirectoryHasChanged() {
+    scanWithNewIndex(this.directory, new CountingRoot("foo.Bar"));
+    final File sub = new File(this.directory, "sub");
+    sub.setLastModified(sub.lastModified() - 10000);
+
+    final CountingRoot second = new CountingRoot("foo.Changed");
+    assertEquals(Arrays.asList("foo.Changed"),
+        scanWithNewIndex(this.directory, second));
+    assertEquals(1, second.scans);
+  }
+
+  @Test
+  public void shouldScanWhenIndexCannotBeRead() throws IOException {
+    write(this.indexFile, 3);
+
+    final CountingRoot root = new CountingRoot("foo.Bar");
+    assertEquals(Arrays.asList("foo.Bar"), scanWithNewIndex(this.archive, root));
+    assertEquals(1, root.scans);
+  }
+
+  @Test
+  public void shouldOnlyStoreRootsUsedInTheLastRun() throws IOException {
+    final File other = this.folder.newFile("other.jar");
+    scanWithNewIndex(other, new CountingRoot("foo.Other"));
+    scanWithNewIndex(this.archive, new CountingRoot("foo.Bar"));
+
+    final CountingRoot root = new CountingRoot("foo.Other");
+    scanWithNewIndex(other, root);
+    assertEquals(1, root.scans);
+  }
+
+  private Collection<String> scanWithNewIndex(final File location,
+      final ClassPathRoot root) {
+    final ClassPathIndex index = new ClassPathIndex(this.indexFile,
+        this.indexFile);
+    index.load();
+    final Collection<String> names = index.index(location, root).classNames();
+    index.store();
+    return names;
+  }
+
+  private static void write(final File file, final int length)
+      throws IOException {
+    try (FileOutputStream fos = new FileOutputStream(file)) {
+      fos.write(new byte[length]);
+    }
+  }
+
+  private static class CountingRoot implements ClassPathRoot {
+    private final List<String> names;
+    private int                scans;
+
+    CountingRoot(final String... names) {
+      this.names = Arrays.asList(names);
+    }
+
+    @Override
+    public URL getResource(final String name) {
+      return null;
+    }
+
+    @Override
+    public InputStream getData(final String name) {
+      return null;
+    }
+
+    @Override
+    public Collection<String> classNames() {
+      this.scans++;
+      return new ArrayList<>(this.names);
+    }
+
+    @Override
+    public Optional<String> cacheLocation() {
+      return Optional.empty();
+    }
+  }
+
+}
@@ -15,7 +15,14 @@
 package org.pitest.mutationtest.engine.gregor;
 
 import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.gregor.config.Mutator;
 import org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator;
@@ -24,9 +31,11 @@ import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
 import org.pitest.mutationtest.engine.gregor.mutators.ReturnValsMutator;
 import org.pitest.util.ResourceFolderByteArraySource;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
@@ -349,6 +358,71 @@ public class TestGregorMutater extends MutatorTestBase {
   }
 
 
+  @Test
+  public void shouldCreateSameMutantsInABatchAsIndividually() {
+    createTesteeWith(Mutator.all());
+    final List<MutationDetails> actualDetails = findMutationsFor(HasMultipleMutations.class);
+    final List<Mutant> batch = this.engine.getMutations(actualDetails.stream()
+        .map(MutationDetails::getId)
+        .collect(Collectors.toList()));
+
+    assertThat(batch).hasSameSizeAs(actualDetails);
+    for (int i = 0; i != batch.size(); i++) {
+      final Mutant single = this.engine.getMutation(actualDetails.get(i).getId());
+      assertThat(batch.get(i).getDetails()).isEqualTo(actualDetails.get(i));
+      assertThat(batch.get(i).getBytes()).isEqualTo(single.getBytes());
+    }
+  }
+
+  @Test
+  public void shouldCopyUnmutatedMethodsUnchanged() {
+    createTesteeWith(Mutator.byName("RETURN_VALS"));
+    final List<MutationDetails> actualDetails = findMutationsFor(HasTwoMutableMethods.class);
+    final MutationDetails first = actualDetails.get(0);
+    final String mutated = first.getId().getLocation().getMethodDesc();
+
+    final byte[] original = new ClassPathByteArraySource()
+        .getBytes(HasTwoMutableMethods.class.getName()).get();
+    final byte[] mutant = this.engine.getMutation(first.getId()).getBytes();
+
+    for (final MethodNode each : read(original).methods) {
+      final MethodNode inMutant = read(mutant).methods.stream()
+          .filter(m -> m.name.equals(each.name) && m.desc.equals(each.desc))
+          .findFirst().get();
+      if (each.name.equals("a") && each.desc.equals(mutated)) {
+        assertThat(opcodes(inMutant)).isNotEqualTo(opcodes(each));
+      } else {
+        assertThat(opcodes(inMutant)).isEqualTo(opcodes(each));
+      }
+    }
+  }
+
+  @Test
+  public void shouldFindSameMutationsInAParsedClassAsInItsBytes() {
+    createTesteeWith(Mutator.all());
+    final ClassNode node = new ClassNode();
+    new ClassReader(new ClassPathByteArraySource()
+        .getBytes(HasMultipleMutations.class.getName()).get())
+        .accept(node, ClassReader.EXPAND_FRAMES);
+
+    assertThat(this.engine.findMutations(node)).isEqualTo(
+        this.engine.findMutations(ClassName.fromClass(HasMultipleMutations.class)));
+  }
+
+  private static ClassNode read(final byte[] bytes) {
+    final ClassNode node = new ClassNode();
+    new ClassReader(bytes).accept(node, 0);
+    return node;
+  }
+
+  private static List<Integer> opcodes(final MethodNode method) {
+    final List<Integer> opcodes = new ArrayList<>();
+    for (final AbstractInsnNode each : method.instructions) {
+      opcodes.add(each.getOpcode());
+    }
+    return opcodes;
+  }
+
   private static Predicate<MutationDetails> isInFinallyBlock() {
     return a -> a.isInFinallyBlock();
   }
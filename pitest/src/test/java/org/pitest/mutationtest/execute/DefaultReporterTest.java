@@ -51,6 +51,19 @@ public class DefaultReporterTest {
     assertEquals(is.read(MutationStatusTestPair.class), ms);
   }
 
+  @Test
+  public void shouldAnnounceAndUseNegotiatedFormat() {
+    final MutationIdentifier mi = aMutationId().withIndex(0).withMutator("foo")
+        .build();
+    this.testee.useFormat(WireFormat.BINARY);
+    this.testee.describe(mi);
+    final SafeDataInputStream is = resultToStream();
+    assertEquals(Id.FORMAT, is.readByte());
+    assertEquals(WireFormat.BINARY.version(), is.readInt());
+    assertEquals(Id.DESCRIBE, is.readByte());
+    assertEquals(mi, WireFormat.BINARY.readIdentifier(is));
+  }
+
   private SafeDataInputStream resultToStream() {
     return new SafeDataInputStream(
         new ByteArrayInputStream(this.os.toByteArray()));
@@ -0,0 +1,151 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+
+public class MutantSchemaTest {
+
+  private final ClassByteArraySource source = new ClassPathByteArraySource();
+
+  private GregorMutater              mutater;
+
+  @Before
+  public void setUp() {
+    this.mutater = new GregorMutater(this.source, m -> true,
+        Mutator.fromStrings(Arrays.asList("NEGATE_CONDITIONALS",
+            "VOID_METHOD_CALLS")));
+  }
+
+  public static class HasMutants {
+    public HasMutants() {
+      doNothing();
+    }
+
+    public boolean greaterThan(final int a, final long b) {
+      return a > b;
+    }
+
+    public static boolean isNull(final Object o) {
+      return o == null;
+    }
+
+    private static void doNothing() {
+
+    }
+  }
+
+  public interface AnInterface {
+    default boolean isNull(final Object o) {
+      return o == null;
+    }
+  }
+
+  @Test
+  public void shouldBehaveAsOriginalWhenNoMutantSelected() throws Exception {
+    final Class<?> woven = define(weave(HasMutants.class).get());
+    assertThat(greaterThan(woven, 2, 1)).isTrue();
+    assertThat(isNull(woven, null)).isTrue();
+  }
+
+  @Test
+  public void shouldBehaveAsMutantWhenItIsSelected() throws Exception {
+    final MutantSchema testee = weave(HasMutants.class).get();
+    final Class<?> woven = define(testee);
+
+    select(woven, testee.mutantNumber(mutationIn("greaterThan").getId()));
+    assertThat(greaterThan(woven, 2, 1)).isFalse();
+    assertThat(isNull(woven, null)).isTrue();
+
+    select(woven, testee.mutantNumber(mutationIn("isNull").getId()));
+    assertThat(greaterThan(woven, 2, 1)).isTrue();
+    assertThat(isNull(woven, null)).isFalse();
+  }
+
+  @Test
+  public void shouldNotWeaveMutantsInConstructors() {
+    final MutantSchema testee = weave(HasMutants.class).get();
+    assertThat(testee.mutantNumber(mutationIn("<init>").getId())).isZero();
+  }
+
+  @Test
+  public void shouldNotWeaveInterfaces() {
+    assertThat(weave(AnInterface.class)).isEmpty();
+  }
+
+  @Test
+  public void shouldKeepShapeOfSchemaWhenWovenIntoAMutant() throws Exception {
+    final MutantSchema testee = weave(HasMutants.class).get();
+    final Mutant inConstructor = this.mutater.getMutation(mutationIn("<init>")
+        .getId());
+
+    final Class<?> woven = define(testee.getClassName(),
+        testee.weaveInto(inConstructor.getBytes()));
+
+    assertThat(woven.getDeclaredMethods()).hasSameSizeAs(
+        define(testee).getDeclaredMethods());
+    select(woven, testee.mutantNumber(mutationIn("isNull").getId()));
+    assertThat(isNull(woven, null)).isFalse();
+  }
+
+  private Optional<MutantSchema> weave(final Class<?> clazz) {
+    final ClassName name = ClassName.fromClass(clazz);
+    final List<Mutant> mutants = this.mutater.findMutations(name).stream()
+        .map(m -> this.mutater.getMutation(m.getId()))
+        .collect(Collectors.toList());
+    return MutantSchema.weave(this.source, new HashMap<String, String>(), name,
+        this.source.getBytes(name.asJavaName()).get(), mutants);
+  }
+
+  private MutationDetails mutationIn(final String method) {
+    return this.mutater.findMutations(ClassName.fromClass(HasMutants.class))
+        .stream().filter(m -> m.getMethod().name().equals(method)).findFirst()
+        .get();
+  }
+
+  private static Class<?> define(final MutantSchema schema) {
+    return define(schema.getClassName(), schema.getBytes());
+  }
+
+  private static Class<?> define(final ClassName name, final byte[] bytes) {
+    return new ClassLoader(MutantSchemaTest.class.getClassLoader()) {
+      Class<?> define() {
+        return defineClass(name.asJavaName(), bytes, 0, bytes.length);
+      }
+    }.define();
+  }
+
+  private static void select(final Class<?> clazz, final int mutant)
+      throws Exception {
+    final Field f = clazz.getDeclaredField(MutantSchema.FIELD);
+    f.setAccessible(true);
+    f.setInt(null, mutant);
+  }
+
+  private static boolean greaterThan(final Class<?> clazz, final int a,
+      final long b) throws Exception {
+    return (Boolean) clazz.getMethod("greaterThan", int.class, long.class)
+        .invoke(clazz.newInstance(), a, b);
+  }
+
+  private static boolean isNull(final Class<?> clazz, final Object o)
+      throws Exception {
+    return (Boolean) clazz.getMethod("isNull", Object.class).invoke(null, o);
+  }
+
+}
@@ -1,6 +1,7 @@
 package org.pitest.mutationtest.execute;
 
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
@@ -12,11 +13,13 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.F3;
@@ -128,6 +131,24 @@ public class MutationTestWorkerTest {
             .getDescription().getName()));
   }
 
+  @Test
+  public void shouldInstallMutantsWithSchemataWhenPresent() throws IOException {
+    final MutantSchemata schemata = Mockito.mock(MutantSchemata.class);
+    this.testee = new MutationTestWorker(this.hotswapper,
+        Optional.of(schemata), this.mutater, this.loader, false);
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makeFailingTest()));
+    when(schemata.install(any(MutationIdentifier.class), any(byte[].class)))
+        .thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+
+    verify(schemata).install(any(MutationIdentifier.class), any(byte[].class));
+    verify(this.hotswapper, never()).apply(any(ClassName.class),
+        any(ClassLoader.class), any(byte[].class));
+  }
+
   private TestUnit makeFailingTest() {
     return new TestUnit() {
 
@@ -0,0 +1,63 @@
+package org.pitest.mutationtest.execute;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+public class TimeLimitedRunnerTest {
+
+  private final TimeLimitedRunner testee = new TimeLimitedRunner();
+
+  @Test
+  public void shouldReportActionsThatCompleteWithinTheirDeadline() {
+    assertTrue(this.testee.run(() -> { }, 1000));
+  }
+
+  @Test
+  public void shouldRunEachActionOnTheSameThread() {
+    final AtomicReference<Thread> first = new AtomicReference<>();
+    final AtomicReference<Thread> second = new AtomicReference<>();
+    this.testee.run(() -> first.set(Thread.currentThread()), 1000);
+    this.testee.run(() -> second.set(Thread.currentThread()), 1000);
+    assertSame(first.get(), second.get());
+  }
+
+  @Test
+  public void shouldRunActionsOnDaemonThreads() {
+    final AtomicReference<Thread> thread = new AtomicReference<>();
+    this.testee.run(() -> thread.set(Thread.currentThread()), 1000);
+    assertTrue(thread.get().isDaemon());
+  }
+
+  @Test
+  public void shouldUseNewThreadAfterAnActionTimesOut() throws Exception {
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicReference<Thread> stuck = new AtomicReference<>();
+    final AtomicReference<Thread> next = new AtomicReference<>();
+    try {
+      assertFalse(this.testee.run(() -> {
+        stuck.set(Thread.currentThread());
+        awaitQuietly(release);
+      }, 10));
+      assertTrue(this.testee.run(() -> next.set(Thread.currentThread()), 1000));
+      assertNotSame(stuck.get(), next.get());
+    } finally {
+      release.countDown();
+    }
+  }
+
+  private static void awaitQuietly(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
@@ -15,6 +15,7 @@
 package org.pitest.mutationtest.execute;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
@@ -71,6 +72,14 @@ public class TimeOutDecoratedTestSourceTest {
     assertEquals(1, actual.size());
   }
 
+  @Test
+  public void shouldReuseTestUnitsForEachMutant() {
+    final List<TestInfo> tests = Arrays
+        .asList(new TestInfo("foo", "one", 42, Optional.<ClassName> empty(), 0));
+    assertSame(this.testee.translateTests(tests).get(0),
+        this.testee.translateTests(tests).get(0));
+  }
+
   private TestUnit makeTestUnit(final String name) {
     return new TestUnit() {
       private final Description description = new Description(name);
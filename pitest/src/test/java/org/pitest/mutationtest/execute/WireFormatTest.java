@@ -0,0 +1,85 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.testapi.Description;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+public class WireFormatTest {
+
+  private final ByteArrayOutputStream os  = new ByteArrayOutputStream();
+  private final SafeDataOutputStream  dos = new SafeDataOutputStream(this.os);
+
+  @Test
+  public void shouldRoundTripMutationIdentifiersInEachFormat() {
+    final MutationIdentifier id = new MutationIdentifier(aMutationId().build()
+        .getLocation(), Arrays.asList(1, 3), "mutator");
+    for (final WireFormat each : WireFormat.values()) {
+      each.writeIdentifier(this.dos, id);
+      each.writeIdentifier(this.dos, id);
+      final SafeDataInputStream dis = written();
+      assertThat(each.readIdentifier(dis)).isEqualTo(id);
+      assertThat(each.readIdentifier(dis)).isEqualTo(id);
+      this.os.reset();
+    }
+  }
+
+  @Test
+  public void shouldRoundTripStatusesInEachFormat() {
+    final MutationStatusTestPair status = new MutationStatusTestPair(3,
+        DetectionStatus.KILLED, Arrays.asList("a", "b"),
+        Collections.singletonList("c"));
+    for (final WireFormat each : WireFormat.values()) {
+      each.writeStatus(this.dos, status);
+      assertThat(each.readStatus(written())).isEqualTo(status);
+      this.os.reset();
+    }
+  }
+
+  @Test
+  public void shouldRoundTripDescriptionsWithoutTestClass() {
+    final Description d = new Description("foo");
+    WireFormat.BINARY.writeDescription(this.dos, d);
+    assertThat(WireFormat.BINARY.readDescription(written())).isEqualTo(d);
+  }
+
+  @Test
+  public void shouldRoundTripDescriptionsWithTestClass() {
+    final Description d = new Description("foo", "com.example.FooTest");
+    WireFormat.BINARY.writeDescription(this.dos, d);
+    assertThat(WireFormat.BINARY.readDescription(written())).isEqualTo(d);
+  }
+
+  @Test
+  public void shouldNegotiateLatestFormatWhenOfferedIt() {
+    assertThat(WireFormat.negotiate(WireFormat.latest().version()))
+        .isEqualTo(WireFormat.latest());
+  }
+
+  @Test
+  public void shouldFallBackToSerializationForUnknownVersions() {
+    assertThat(WireFormat.negotiate(0)).isEqualTo(WireFormat.SERIALIZED);
+  }
+
+  @Test
+  public void shouldNegotiateMostRecentKnownFormatWhenOfferedNewerVersion() {
+    assertThat(WireFormat.negotiate(Integer.MAX_VALUE))
+        .isEqualTo(WireFormat.latest());
+  }
+
+  private SafeDataInputStream written() {
+    return new SafeDataInputStream(new ByteArrayInputStream(this.os.toByteArray()));
+  }
+
+}
@@ -43,4 +43,69 @@ public class CachingByteArraySourceTest {
     verify(this.source, times(1)).getBytes("someClass");
   }
 
+  @Test
+  public void shouldDiscardLeastRecentlyUsedClassWhenFull() {
+    when(this.source.getBytes("a")).thenReturn(Optional.ofNullable(new byte[0]));
+    when(this.source.getBytes("b")).thenReturn(Optional.ofNullable(new byte[0]));
+    when(this.source.getBytes("c")).thenReturn(Optional.ofNullable(new byte[0]));
+
+    final CachingByteArraySource testee = new CachingByteArraySource(this.source, 2);
+
+    testee.getBytes("a");
+    testee.getBytes("b");
+    testee.getBytes("a");
+    testee.getBytes("c");
+    testee.getBytes("a");
+    testee.getBytes("b");
+
+    verify(this.source, times(1)).getBytes("a");
+    verify(this.source, times(2)).getBytes("b");
+  }
+
+  @Test
+  public void shouldBoundCacheByTotalSizeOfClasses() {
+    when(this.source.getBytes("small")).thenReturn(Optional.ofNullable(new byte[100]));
+    when(this.source.getBytes("large")).thenReturn(Optional.ofNullable(new byte[2000]));
+
+    final CachingByteArraySource testee = CachingByteArraySource
+        .boundedBySize(this.source, 2200);
+
+    testee.getBytes("small");
+    testee.getBytes("large");
+    testee.getBytes("small");
+
+    verify(this.source, times(2)).getBytes("small");
+    assertThat(testee.weight()).isLessThanOrEqualTo(2200);
+  }
+
+  @Test
+  public void shouldKeepAClassLargerThanTheCache() {
+    when(this.source.getBytes("large")).thenReturn(Optional.ofNullable(new byte[5000]));
+
+    final CachingByteArraySource testee = CachingByteArraySource
+        .boundedBySize(this.source, 2000);
+
+    testee.getBytes("large");
+    testee.getBytes("large");
+
+    verify(this.source, times(1)).getBytes("large");
+  }
+
+  @Test
+  public void shouldCountHitsMissesAndEvictions() {
+    when(this.source.getBytes("a")).thenReturn(Optional.ofNullable(new byte[0]));
+    when(this.source.getBytes("b")).thenReturn(Optional.<byte[]> empty());
+
+    final CachingByteArraySource testee = new CachingByteArraySource(this.source, 1);
+
+    testee.getBytes("a");
+    testee.getBytes("a");
+    testee.getBytes("b");
+    testee.getBytes("b");
+
+    assertThat(testee.hits()).isEqualTo(2);
+    assertThat(testee.misses()).isEqualTo(2);
+    assertThat(testee.evictions()).isEqualTo(1);
+  }
+
 }
@@ -43,4 +43,33 @@ public class SafeDataInputStreamTest {
 
   }
 
+  @Test
+  public void shouldReadInternedStrings() {
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    final SafeDataOutputStream dos = new SafeDataOutputStream(o);
+    dos.writeInternedString("foo");
+    dos.writeInternedString("bar");
+    dos.writeInternedString(null);
+    dos.writeInternedString("foo");
+
+    final SafeDataInputStream dis = new SafeDataInputStream(
+        new ByteArrayInputStream(o.toByteArray()));
+
+    assertEquals("foo", dis.readInternedString());
+    assertEquals("bar", dis.readInternedString());
+    assertEquals(null, dis.readInternedString());
+    assertEquals("foo", dis.readInternedString());
+  }
+
+  @Test
+  public void shouldSendRepeatedInternedStringsOnce() {
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    final SafeDataOutputStream dos = new SafeDataOutputStream(o);
+    dos.writeInternedString("a long string that is sent many times");
+    final int firstUse = o.size();
+    dos.writeInternedString("a long string that is sent many times");
+
+    assertEquals(4, o.size() - firstUse);
+  }
+
 }
@@ -17,11 +17,14 @@ package sun.pitest;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -92,12 +95,50 @@ public class CodeCoverageStoreTest {
     boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
     ar[0] = true;
     ar[1] = true;
+    CodeCoverageStore.markTouched(classId);
     CodeCoverageStore.reset();
 
+    assertFalse(ar[0]);
+    assertFalse(ar[1]);
+
     final Collection<Long> actual = CodeCoverageStore.getHits();
     assertEquals(Collections.emptyList(), actual);
   }
 
+  @Test
+  public void shouldVisitOnlyClassesHitSinceReset() {
+    final int hit = CodeCoverageStore.registerClass("foo");
+    final int notHit = CodeCoverageStore.registerClass("bar");
+
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(hit, 2);
+    CodeCoverageStore.getOrRegisterClassProbes(notHit, 2);
+    ar[0] = true;
+    ar[2] = true;
+    CodeCoverageStore.markTouched(hit);
+
+    final List<Integer> visited = new ArrayList<>();
+    CodeCoverageStore.visitHits((id, probes) -> {
+      visited.add(id);
+      assertSame(ar, probes);
+    });
+
+    assertEquals(Collections.singletonList(hit), visited);
+  }
+
+  @Test
+  public void shouldForgetTouchedClassesWhenReset() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
+    ar[0] = true;
+    CodeCoverageStore.markTouched(classId);
+    CodeCoverageStore.reset();
+
+    final List<Integer> visited = new ArrayList<>();
+    CodeCoverageStore.visitHits((id, probes) -> visited.add(id));
+
+    assertEquals(Collections.emptyList(), visited);
+  }
+
   @Test
   public void shouldBeSafeToAccessAcrossMultipleThreads()
       throws InterruptedException, ExecutionException {
@@ -106,6 +147,7 @@ public class CodeCoverageStoreTest {
     boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
     ar[0] = true;
     ar[1] = true;
+    CodeCoverageStore.markTouched(classId);
 
     final Callable<ConcurrentModificationException> read = makeReader();
 